@@ -0,0 +1,101 @@
+package com.trustbridge.Benchmarks;
+
+import com.trustbridge.Common.Events.BackpressurePolicy;
+import com.trustbridge.Common.Events.RingBuffer;
+import com.trustbridge.Common.Events.RingBufferConsumer;
+import com.trustbridge.Common.Events.TransitionEvent;
+import com.trustbridge.Domain.Enums.JobEvent.jobEvent;
+import com.trustbridge.Domain.Enums.JobStatus.jobStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Events per second through the domain event ring buffer, with 1 or 3 BLOCK consumers draining it
+ * so publishers feel real backpressure, against the ArrayBlockingQueue + writer thread hand-off the
+ * audit log used before. Consumers only record the batch size, so this measures the hand-off, not the handlers.
+ * Run with -t 4 as well to see contended publishing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DomainEventBusBenchmark {
+
+    @Param({"1", "3"})
+    public int consumers;
+
+    private RingBuffer<TransitionEvent> ringBuffer;
+    private final List<RingBufferConsumer<TransitionEvent>> ringConsumers = new ArrayList<>();
+
+    private BlockingQueue<TransitionEvent> queue;
+    private final List<Thread> queueConsumers = new ArrayList<>();
+    private volatile boolean running;
+
+    private TransitionEvent event;
+
+    // Written by the consumer threads so their work cannot be optimised away
+    private volatile int sink;
+
+    @Setup
+    public void setUp() {
+        event = new TransitionEvent("job", UUID.randomUUID(), jobStatus.PENDING_ACCEPTANCE, jobStatus.AWAITING_PAYMENT,
+                jobEvent.ACCEPT_OFFER, TransitionEvent.SYSTEM_ACTOR, Map.of(), null);
+
+        ringBuffer = new RingBuffer<>(16384, TimeUnit.SECONDS.toNanos(1));
+        for (int i = 0; i < consumers; i++) {
+            RingBufferConsumer<TransitionEvent> consumer = new RingBufferConsumer<>("bench-" + i, ringBuffer,
+                    BackpressurePolicy.BLOCK, 200, TimeUnit.MICROSECONDS.toNanos(50), batch -> sink = batch.size());
+            consumer.start();
+            ringConsumers.add(consumer);
+        }
+
+        // The old audit hand-off only ever had one reader; with more, each event goes to one of them, not all
+        running = true;
+        queue = new ArrayBlockingQueue<>(16384);
+        for (int i = 0; i < consumers; i++) {
+            queueConsumers.add(Thread.ofPlatform().daemon().start(() -> {
+                List<TransitionEvent> batch = new ArrayList<>(200);
+                while (running) {
+                    try {
+                        TransitionEvent first = queue.poll(1, TimeUnit.MILLISECONDS);
+                        if (first != null) {
+                            batch.add(first);
+                            queue.drainTo(batch, 199);
+                            sink = batch.size();
+                            batch.clear();
+                        }
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        for (RingBufferConsumer<TransitionEvent> consumer : ringConsumers) {
+            consumer.stop(5, TimeUnit.SECONDS);
+        }
+        running = false;
+        for (Thread thread : queueConsumers) {
+            thread.join(5000);
+        }
+    }
+
+    @Benchmark
+    public boolean ringBuffer() {
+        return ringBuffer.publish(event);
+    }
+
+    @Benchmark
+    public void blockingQueue() throws InterruptedException {
+        queue.put(event);
+    }
+}
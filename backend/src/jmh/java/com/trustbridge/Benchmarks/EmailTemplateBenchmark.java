@@ -0,0 +1,97 @@
+package com.trustbridge.Benchmarks;
+
+import com.trustbridge.Features.Notifications.EmailTemplate;
+import com.trustbridge.Features.Notifications.EmailTemplateEngine;
+import com.trustbridge.Features.Notifications.RenderedEmail;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering the job invite email with the old String.formatted text block (copied from
+ * JobService as it was) against the precompiled EmailTemplateEngine.
+ * The formatted version does no escaping, so it is doing strictly less work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmailTemplateBenchmark {
+
+    private static final String LOGO_URL = "https://github.com/c4meronMcc/TrustBridge/blob/jobcreation/assets/TrustBridgeLogo.png?raw=true";
+
+    private EmailTemplateEngine engine;
+    private Map<String, Object> model;
+
+    private final String name = "Sam";
+    private final String title = "Logo Design & Branding";
+    private final String description = "A new logo, colour palette and business cards";
+    private final String currency = "GBP";
+    private final BigDecimal amount = new BigDecimal("1250.00");
+    private final String inviteLink = "https://localhost:8080/invite/Qm9vZGxlc1JGb3JCcmVha2Zhc3RBbmREaW5uZXJBbmRMdW5jaFRvbw";
+
+    @Setup
+    public void setUp() {
+        engine = new EmailTemplateEngine();
+        model = Map.of(
+                "name", name,
+                "title", title,
+                "description", description,
+                "currency", currency,
+                "amount", amount.toPlainString(),
+                "link", inviteLink,
+                "linkText", "Review & Accept Proposal");
+    }
+
+    @Benchmark
+    public RenderedEmail engine() {
+        return engine.render(EmailTemplate.JOB_INVITE, model);
+    }
+
+    @Benchmark
+    public String formatted() {
+        return """
+            <html>
+            <body style="font-family: Arial, sans-serif; background-color: #f4f4f4; margin: 0; padding: 20px;">
+                <div style="max-width: 600px; margin: 0 auto; background-color: #ffffff; padding: 20px; border-radius: 8px; box-shadow: 0 2px 4px rgba(0,0,0,0.1);">
+
+                    <div style="text-align: center; padding-bottom: 20px;">
+                        <img src="%s" alt="Logo" height="25" style="height: 25px; width: auto; vertical-align: middle; display: inline-block; border: 0;">
+
+                        <span style="font-family: 'Helvetica Neue', Arial, sans-serif; font-size: 26px; font-weight: 700; color: #333333; vertical-align: middle; display: inline-block; letter-spacing: -0.5px;">
+                            TrustBridge
+                        </span>
+                    </div>
+
+                    <hr style="border: 0; border-top: 1px solid #eeeeee; margin: 0 0 20px 0;">
+
+                    <h3 style="color: #2c3e50; margin-top: 0;">New Project Proposal</h3>
+                    <p style="color: #555555; font-size: 16px; line-height: 1.5;">
+                        Hi <strong>%s</strong>,
+                    </p>
+                    <p style="color: #555555; font-size: 16px; line-height: 1.5;">
+                        You have received a new proposal for the project <strong>"%s"</strong>.
+                    </p>
+
+                    <div style="background-color: #f9f9f9; padding: 15px; border-radius: 5px; margin: 20px 0;">
+                        <p style="margin: 5px 0; color: #333;"><strong>Description:</strong> %s</p>
+                        <p style="margin: 5px 0; color: #333;"><strong>Total Amount:</strong> %s %.2f</p>
+                    </div>
+
+                    <div style="text-align: center; margin: 30px 0;">
+                        <a href="%s" style="background-color: #007bff; color: #ffffff; padding: 12px 24px; text-decoration: none; border-radius: 5px; font-weight: bold; font-size: 16px; display: inline-block;">
+                            Review & Accept Proposal
+                        </a>
+                    </div>
+
+                    <p style="color: #999999; font-size: 12px; text-align: center; margin-top: 30px;">
+                        If the button above doesn't work, copy this link into your browser:<br>
+                        <a href="%s" style="color: #007bff; word-break: break-all;">%s</a>
+                    </p>
+                </div>
+            </body>
+            </html>
+            """.formatted(LOGO_URL, name, title, description, currency, amount, inviteLink, inviteLink, inviteLink);
+    }
+}
@@ -0,0 +1,98 @@
+package com.trustbridge.Benchmarks;
+
+import com.trustbridge.Domain.Entities.Jobs;
+import com.trustbridge.Domain.Entities.Users;
+import com.trustbridge.Domain.Enums.JobStatus.jobStatus;
+import com.trustbridge.Domain.Enums.UserRole.role;
+import com.trustbridge.Domain.Repositories.JobRepository;
+import com.trustbridge.Domain.Repositories.UserRepository;
+import com.trustbridge.Features.Jobs.Dto.JobCreationDto;
+import com.trustbridge.Features.Jobs.Service.MilestoneService;
+import com.trustbridge.TrustBridgeApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jobs created per second (one job row plus N milestone rows, one transaction each)
+ * against the Postgres database configured in .env, the same one the app uses.
+ * Inserts per second = score x (milestones + 1).
+ * Rows created by a run are deleted again in tear down.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JobCreationBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int milestones;
+
+    private ConfigurableApplicationContext context;
+    private JobRepository jobRepository;
+    private MilestoneService milestoneService;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+
+    private Users freelancer;
+    private List<JobCreationDto.MilestoneCreationDto> milestoneDtos;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TrustBridgeApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.show-sql=false", "logging.level.org.springframework.security=INFO")
+                .run();
+
+        jobRepository = context.getBean(JobRepository.class);
+        milestoneService = context.getBean(MilestoneService.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        freelancer = context.getBean(UserRepository.class).save(Users.builder()
+                .email("bench-" + UUID.randomUUID() + "@trustbridge.test")
+                .firstName("Bench")
+                .lastName("Freelancer")
+                .userRole(role.FREELANCER)
+                .build());
+
+        milestoneDtos = new ArrayList<>(milestones);
+        for (int i = 1; i <= milestones; i++) {
+            milestoneDtos.add(new JobCreationDto.MilestoneCreationDto("Milestone " + i, BigDecimal.TEN, i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM jobs WHERE freelancer_id = ?", freelancer.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", freelancer.getId());
+        context.close();
+    }
+
+    @Benchmark
+    public UUID createJobWithMilestones() {
+        return transactionTemplate.execute(status -> {
+            Jobs job = Jobs.builder()
+                    .freelancer(freelancer)
+                    .title("Benchmark job")
+                    .description("Created by JobCreationBenchmark")
+                    .totalAmount(BigDecimal.TEN.multiply(BigDecimal.valueOf(milestones)))
+                    .currency("GBP")
+                    .inviteToken(UUID.randomUUID().toString())
+                    .status(jobStatus.PENDING_ACCEPTANCE)
+                    .build();
+
+            jobRepository.save(job);
+            milestoneService.createMilestones(job, milestoneDtos);
+            return job.getId();
+        });
+    }
+}
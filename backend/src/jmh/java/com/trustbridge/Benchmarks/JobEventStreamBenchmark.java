@@ -0,0 +1,61 @@
+package com.trustbridge.Benchmarks;
+
+import com.trustbridge.Features.Jobs.Service.JobEventStream;
+import com.trustbridge.Features.Jobs.Service.JobEventStreamProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Memory held by an idle job event stream. Each invocation opens 10,000 streams across 1,000 jobs
+ * and leaves them open, so with -prof gc the gc.alloc.rate.norm figure is the bytes allocated per
+ * idle subscriber (registry entry, queue, emitter), which is an upper bound on what it retains.
+ * The servlet async context and socket buffers are not part of this and come on top.
+ *
+ *   ./gradlew jmhJar && java -jar build/libs/*-jmh.jar JobEventStreamBenchmark -prof gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class JobEventStreamBenchmark {
+
+    private static final int STREAMS = 10_000;
+
+    private final UUID[] jobIds = new UUID[1_000];
+    private JobEventStream jobEventStream;
+
+    @Setup(Level.Trial)
+    public void setUpJobs() {
+        for (int i = 0; i < jobIds.length; i++) {
+            jobIds[i] = UUID.randomUUID();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        JobEventStreamProperties properties = new JobEventStreamProperties();
+        properties.setMaxConnections(STREAMS);
+        // No events are published, so the repositories are never asked for a job id
+        jobEventStream = new JobEventStream(properties, null, null, new SimpleMeterRegistry());
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        jobEventStream.closeAll();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STREAMS)
+    public SseEmitter subscribeIdle() {
+        SseEmitter last = null;
+        for (int i = 0; i < STREAMS; i++) {
+            last = jobEventStream.subscribe(jobIds[i % jobIds.length], null).orElseThrow();
+        }
+        return last;
+    }
+}
@@ -0,0 +1,60 @@
+package com.trustbridge.Benchmarks;
+
+import com.trustbridge.Domain.Values.Money;
+import com.trustbridge.Features.Jobs.Dto.JobCreationDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checking that milestone amounts add up to the job amount, the way JobService.milestoneTotalValid
+ * did it (stream into a list, BigDecimal.add, equals) against summing Money in minor units.
+ * Amounts alternate between scale 1 and 2 like real form input, which is also what made the old
+ * equals check reject valid totals, so the BigDecimal version here uses compareTo to stay correct.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MilestoneTotalBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int milestones;
+
+    private List<JobCreationDto.MilestoneCreationDto> milestoneDtos;
+    private BigDecimal jobAmount;
+    private final String currency = "GBP";
+
+    @Setup
+    public void setUp() {
+        milestoneDtos = new ArrayList<>(milestones);
+        for (int i = 1; i <= milestones; i++) {
+            BigDecimal amount = i % 2 == 0 ? new BigDecimal("125.50") : new BigDecimal("125.5");
+            milestoneDtos.add(new JobCreationDto.MilestoneCreationDto("Milestone " + i, amount, i));
+        }
+        jobAmount = new BigDecimal("125.50").multiply(BigDecimal.valueOf(milestones));
+    }
+
+    @Benchmark
+    public boolean bigDecimal() {
+        List<BigDecimal> amounts = milestoneDtos.stream()
+                .map(JobCreationDto.MilestoneCreationDto::amount).toList();
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : amounts) {
+            total = total.add(amount);
+        }
+        return total.compareTo(jobAmount) == 0;
+    }
+
+    @Benchmark
+    public boolean money() {
+        Money total = Money.zero(currency);
+        for (JobCreationDto.MilestoneCreationDto milestone : milestoneDtos) {
+            total = total.plus(milestone.amount());
+        }
+        return total.compareTo(Money.of(jobAmount, currency)) == 0;
+    }
+}
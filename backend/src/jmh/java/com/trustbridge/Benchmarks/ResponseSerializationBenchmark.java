@@ -0,0 +1,87 @@
+package com.trustbridge.Benchmarks;
+
+import com.trustbridge.Common.Web.SerializedResponseProperties;
+import com.trustbridge.Common.Web.SerializedResponses;
+import com.trustbridge.Features.Jobs.Dto.InviteResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing the invite response to UTF-8 bytes: the per-request HashMap the invite-link endpoint used to
+ * build, the typed DTO through the mapper, a prebuilt ObjectWriter with and without Blackbird, and
+ * SerializedResponses handing back bytes already kept for the same version.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResponseSerializationBenchmark {
+
+    private JsonMapper mapper;
+    private ObjectWriter writer;
+    private ObjectWriter blackbirdWriter;
+    private SerializedResponses cached;
+
+    private final UUID version = UUID.randomUUID();
+
+    private final String title = "Logo Design & Branding";
+    private final String description = "A new logo, colour palette and business cards";
+    private final String freelancerName = "Alex Smith";
+    private final String freelancerEmail = "alex@example.com";
+    private final BigDecimal amount = new BigDecimal("1250.00");
+
+    @Setup
+    public void setUp() {
+        mapper = JsonMapper.builder().build();
+        writer = mapper.writerFor(InviteResponseDto.class);
+        blackbirdWriter = JsonMapper.builder().addModule(new BlackbirdModule()).build().writerFor(InviteResponseDto.class);
+        cached = new SerializedResponses(JsonMapper.builder().addModule(new BlackbirdModule()).build(),
+                new SerializedResponseProperties(), new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public byte[] hashMap() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("jobTitle", title);
+        response.put("description", description);
+        response.put("freelancerName", freelancerName);
+        response.put("freelancerEmail", freelancerEmail);
+        response.put("amount", amount);
+        response.put("currency", "GBP");
+        response.put("clientEmail", null);
+        response.put("userStatus", "NEW");
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] mapperDto() {
+        return mapper.writeValueAsBytes(dto());
+    }
+
+    @Benchmark
+    public byte[] prebuiltWriter() {
+        return writer.writeValueAsBytes(dto());
+    }
+
+    @Benchmark
+    public byte[] prebuiltWriterBlackbird() {
+        return blackbirdWriter.writeValueAsBytes(dto());
+    }
+
+    @Benchmark
+    public byte[] cachedBytes() {
+        return cached.write(InviteResponseDto.class, version, this::dto);
+    }
+
+    private InviteResponseDto dto() {
+        return new InviteResponseDto(title, description, freelancerName, freelancerEmail, amount, "GBP", null, "NEW");
+    }
+}
@@ -0,0 +1,119 @@
+package com.trustbridge.Benchmarks;
+
+import com.trustbridge.Common.StateMachine.CompiledTransitionEngine;
+import com.trustbridge.Common.StateMachine.PooledTransitionEngine;
+import com.trustbridge.Common.StateMachine.StateMachinePool;
+import com.trustbridge.Common.StateMachine.StateMachineProperties;
+import com.trustbridge.Domain.Enums.JobEvent.jobEvent;
+import com.trustbridge.Domain.Enums.JobStatus.jobStatus;
+import com.trustbridge.Features.Jobs.StateMachine.JobStateMachineConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.statemachine.StateMachine;
+import org.springframework.statemachine.config.StateMachineFactory;
+import org.springframework.statemachine.support.DefaultStateMachineContext;
+import org.springframework.statemachine.support.StateMachineInterceptorAdapter;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of firing one job event through the old per-call buildStateMachine + sendEvent path,
+ * the pooled Spring machines and the compiled transition table.
+ * The interceptor is a no-op so only the engine itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StateMachineEngineBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private StateMachineFactory<jobStatus, jobEvent> factory;
+    private StateMachineInterceptorAdapter<jobStatus, jobEvent> interceptor;
+    private PooledTransitionEngine<jobStatus, jobEvent> pooled;
+    private CompiledTransitionEngine<jobStatus, jobEvent> compiled;
+
+    private UUID jobId;
+    private Message<jobEvent> publishOffer;
+    private Message<jobEvent> acceptOffer;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(JobStateMachineConfig.class);
+        factory = context.getBean("JobStateMachineFactory", StateMachineFactory.class);
+        interceptor = new StateMachineInterceptorAdapter<>() { };
+
+        pooled = new PooledTransitionEngine<>(new StateMachinePool<>("job", factory, interceptor,
+                new StateMachineProperties.Pool(), new SimpleMeterRegistry()));
+        compiled = new CompiledTransitionEngine<>("job", jobStatus.class, jobEvent.class, factory, interceptor);
+
+        jobId = UUID.randomUUID();
+        publishOffer = MessageBuilder.withPayload(jobEvent.PUBLISH_OFFER)
+                .setHeader("jobId", jobId)
+                .build();
+        acceptOffer = MessageBuilder.withPayload(jobEvent.ACCEPT_OFFER)
+                .setHeader("jobId", jobId)
+                .setHeader("isClientApproving", true)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object buildAndSend_unguarded() {
+        return buildAndSend(jobStatus.DRAFT, publishOffer);
+    }
+
+    @Benchmark
+    public Object buildAndSend_guarded() {
+        return buildAndSend(jobStatus.PENDING_ACCEPTANCE, acceptOffer);
+    }
+
+    @Benchmark
+    public Object pooled_unguarded() {
+        return pooled.fire(jobId, jobStatus.DRAFT, publishOffer).block();
+    }
+
+    @Benchmark
+    public Object pooled_guarded() {
+        return pooled.fire(jobId, jobStatus.PENDING_ACCEPTANCE, acceptOffer).block();
+    }
+
+    @Benchmark
+    public Object compiled_unguarded() {
+        return compiled.fire(jobId, jobStatus.DRAFT, publishOffer).block();
+    }
+
+    @Benchmark
+    public Object compiled_guarded() {
+        return compiled.fire(jobId, jobStatus.PENDING_ACCEPTANCE, acceptOffer).block();
+    }
+
+    // Same steps JobStateService.buildStateMachine + fireEvent used to take for every event
+    private Object buildAndSend(jobStatus status, Message<jobEvent> message) {
+        StateMachine<jobStatus, jobEvent> sm = factory.getStateMachine(UUID.randomUUID().toString());
+
+        sm.stopReactively().block();
+
+        sm.getStateMachineAccessor().doWithAllRegions(accessor -> {
+
+            accessor.addStateMachineInterceptor(interceptor);
+
+            accessor.resetStateMachineReactively(new DefaultStateMachineContext<>(
+                    status, null, null, null
+            )).block();
+        });
+
+        sm.startReactively().block();
+
+        return sm.sendEvent(Mono.just(message)).blockLast();
+    }
+}
@@ -0,0 +1,13 @@
+package com.trustbridge.Common.Events;
+
+/**
+ * What happens when a consumer falls a whole ring behind the publishers.
+ */
+public enum BackpressurePolicy {
+
+    // Publishers wait (up to trustbridge.events.max-publish-wait) for this consumer before reusing its slots
+    BLOCK,
+
+    // Publishers never wait; the consumer skips ahead and counts the events it missed as dropped
+    DROP
+}
@@ -0,0 +1,107 @@
+package com.trustbridge.Common.Events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process bus for status change side effects (audit, cache eviction, ...).
+ * Publishing hands the event to every DomainEventSink, then writes it into a preallocated RingBuffer
+ * and returns; every DomainEventHandler bean reads it on its own thread with its own batch size
+ * and backpressure policy.
+ * Events published inside a transaction only go out after commit, so handlers never see a
+ * change that was rolled back. Nothing is persisted: events still in the ring are handled on
+ * shutdown, but a crash loses them.
+ */
+@Component
+public class DomainEventBus {
+
+    private final RingBuffer<TransitionEvent> ringBuffer;
+    private final List<RingBufferConsumer<TransitionEvent>> consumers = new ArrayList<>();
+    private final List<DomainEventSink> sinks;
+
+    private final Counter publishedCounter;
+    private final Counter overrunCounter;
+
+    public DomainEventBus(DomainEventProperties properties,
+                          List<DomainEventHandler> handlers,
+                          List<DomainEventSink> sinks,
+                          MeterRegistry meterRegistry) {
+        this.sinks = List.copyOf(sinks);
+        this.ringBuffer = new RingBuffer<>(Integer.highestOneBit(Math.max(2, properties.getBufferSize() - 1)) << 1,
+                properties.getMaxPublishWait().toNanos());
+
+        this.publishedCounter = Counter.builder("trustbridge.events.published")
+                .register(meterRegistry);
+        this.overrunCounter = Counter.builder("trustbridge.events.overrun")
+                .description("Publishes that gave up waiting for a BLOCK handler and overwrote an unread slot")
+                .register(meterRegistry);
+
+        for (DomainEventHandler handler : handlers) {
+            RingBufferConsumer<TransitionEvent> consumer = new RingBufferConsumer<>(handler.name(), ringBuffer,
+                    handler.backpressure(), handler.batchSize(), properties.getIdleWait().toNanos(), handler::onEvents);
+            consumers.add(consumer);
+
+            FunctionCounter.builder("trustbridge.events.handled", consumer, RingBufferConsumer::handled)
+                    .tag("handler", handler.name())
+                    .register(meterRegistry);
+            FunctionCounter.builder("trustbridge.events.dropped", consumer, RingBufferConsumer::dropped)
+                    .description("Events a handler skipped because it fell a whole ring behind")
+                    .tag("handler", handler.name())
+                    .register(meterRegistry);
+            FunctionCounter.builder("trustbridge.events.failed", consumer, RingBufferConsumer::failed)
+                    .tag("handler", handler.name())
+                    .register(meterRegistry);
+            Gauge.builder("trustbridge.events.lag", consumer, RingBufferConsumer::lag)
+                    .description("Events published but not yet read by the handler")
+                    .tag("handler", handler.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    public void publish(TransitionEvent event) {
+        for (DomainEventSink sink : sinks) {
+            sink.accept(event);
+        }
+        if (!ringBuffer.publish(event)) {
+            overrunCounter.increment();
+        }
+        publishedCounter.increment();
+    }
+
+    public void publishAfterCommit(TransitionEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(event);
+                }
+            });
+        } else {
+            publish(event);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        consumers.forEach(RingBufferConsumer::start);
+    }
+
+    // Handlers finish what is already in the ring before their dependencies (datasource, caches) go away
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        for (RingBufferConsumer<TransitionEvent> consumer : consumers) {
+            consumer.stop(10, TimeUnit.SECONDS);
+        }
+    }
+}
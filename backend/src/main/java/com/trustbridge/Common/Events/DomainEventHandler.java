@@ -0,0 +1,24 @@
+package com.trustbridge.Common.Events;
+
+import java.util.List;
+
+/**
+ * A side effect of status changes. Every handler bean gets its own consumer thread on the
+ * DomainEventBus and is called with batches of committed transitions in publish order.
+ * Exceptions are counted and logged, the batch is not retried.
+ */
+public interface DomainEventHandler {
+
+    // Thread name suffix and the handler tag on trustbridge.events.* meters
+    String name();
+
+    void onEvents(List<TransitionEvent> events);
+
+    default int batchSize() {
+        return 100;
+    }
+
+    default BackpressurePolicy backpressure() {
+        return BackpressurePolicy.DROP;
+    }
+}
@@ -0,0 +1,22 @@
+package com.trustbridge.Common.Events;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "trustbridge.events")
+public class DomainEventProperties {
+
+    // Slots in the ring, rounded up to a power of two; all are allocated at startup
+    private int bufferSize = 16384;
+
+    // How long a publisher waits for a BLOCK handler a full ring behind before overwriting its slot
+    private Duration maxPublishWait = Duration.ofMillis(100);
+
+    // Park time of an idle consumer thread once it has stopped spinning
+    private Duration idleWait = Duration.ofMillis(1);
+}
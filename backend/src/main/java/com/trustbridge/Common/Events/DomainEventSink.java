@@ -0,0 +1,11 @@
+package com.trustbridge.Common.Events;
+
+/**
+ * A consumer that must see every committed transition, so it doesn't sit behind the ring.
+ * The DomainEventBus calls it on the publishing thread, after commit, before the event goes
+ * into the ring. It should hand the event off and return; its own queueing is up to it.
+ */
+public interface DomainEventSink {
+
+    void accept(TransitionEvent event);
+}
@@ -0,0 +1,115 @@
+package com.trustbridge.Common.Events;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fixed-size ring of preallocated slots. Publishing claims the next sequence with one atomic increment
+ * and writes the value into slot (sequence & mask); no locks and, once the slots are built, no allocation.
+ * Each consumer keeps its own sequence (see RingBufferConsumer). A publisher waits for the consumers
+ * registered as gating, up to maxPublishWait, before it reuses a slot they have not read yet;
+ * non-gating consumers that fall a whole lap behind skip ahead and count what they missed.
+ */
+public final class RingBuffer<T> {
+
+    static final long INITIAL = -1L;
+
+    // Marks a slot that is being rewritten, so a reader can tell a torn read from a published value
+    private static final long WRITING = Long.MIN_VALUE;
+
+    private static final class Slot<T> {
+        volatile long sequence = INITIAL;
+        volatile T value;
+    }
+
+    private final Slot<T>[] slots;
+    private final int mask;
+    private final long maxPublishWaitNanos;
+
+    private final AtomicLong claimed = new AtomicLong(INITIAL);
+    private final List<AtomicLong> gatingSequences = new CopyOnWriteArrayList<>();
+
+    @SuppressWarnings("unchecked")
+    public RingBuffer(int capacity, long maxPublishWaitNanos) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be a power of two, got " + capacity);
+        }
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot<>();
+        }
+        this.mask = capacity - 1;
+        this.maxPublishWaitNanos = maxPublishWaitNanos;
+    }
+
+    /**
+     * Publishes one value. Returns false if a gating consumer was still a full lap behind after
+     * maxPublishWait; the value is published anyway and that consumer counts the slot it lost.
+     */
+    public boolean publish(T value) {
+        long sequence = claimed.incrementAndGet();
+        boolean inTime = awaitCapacity(sequence);
+
+        Slot<T> slot = slots[(int) (sequence & mask)];
+        slot.sequence = WRITING;
+        slot.value = value;
+        slot.sequence = sequence;
+        return inTime;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    public long claimed() {
+        return claimed.get();
+    }
+
+    void addGatingSequence(AtomicLong sequence) {
+        gatingSequences.add(sequence);
+    }
+
+    void removeGatingSequence(AtomicLong sequence) {
+        gatingSequences.remove(sequence);
+    }
+
+    long publishedAt(long sequence) {
+        return slots[(int) (sequence & mask)].sequence;
+    }
+
+    T valueAt(long sequence) {
+        return slots[(int) (sequence & mask)].value;
+    }
+
+    private boolean awaitCapacity(long sequence) {
+        long wrapPoint = sequence - slots.length;
+        if (wrapPoint < 0 || minimumGatingSequence() >= wrapPoint) {
+            return true;
+        }
+
+        long deadline = System.nanoTime() + maxPublishWaitNanos;
+        int spins = 0;
+        while (minimumGatingSequence() < wrapPoint) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            if (++spins < 100) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            }
+        }
+        return true;
+    }
+
+    private long minimumGatingSequence() {
+        long minimum = Long.MAX_VALUE;
+        for (AtomicLong sequence : gatingSequences) {
+            minimum = Math.min(minimum, sequence.get());
+        }
+        return minimum;
+    }
+}
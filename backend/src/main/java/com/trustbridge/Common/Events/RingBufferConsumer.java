@@ -0,0 +1,155 @@
+package com.trustbridge.Common.Events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Reads a RingBuffer on its own thread with its own sequence, handing the handler everything that
+ * is available up to batchSize at a time. Consumers never see each other, so a slow one only holds
+ * up publishers if it is BLOCK, and never the other consumers.
+ * On stop it finishes what has already been published before the thread exits.
+ */
+public final class RingBufferConsumer<T> {
+
+    private final String name;
+    private final RingBuffer<T> ringBuffer;
+    private final BackpressurePolicy policy;
+    private final int batchSize;
+    private final Consumer<List<T>> handler;
+    private final long idleWaitNanos;
+
+    // Last sequence this consumer has read; publishers gate on it when the policy is BLOCK
+    private final AtomicLong sequence = new AtomicLong(RingBuffer.INITIAL);
+
+    private final AtomicLong handled = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public RingBufferConsumer(String name, RingBuffer<T> ringBuffer, BackpressurePolicy policy, int batchSize,
+                              long idleWaitNanos, Consumer<List<T>> handler) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1, got " + batchSize);
+        }
+        this.name = name;
+        this.ringBuffer = ringBuffer;
+        this.policy = policy;
+        this.batchSize = batchSize;
+        this.idleWaitNanos = idleWaitNanos;
+        this.handler = handler;
+    }
+
+    public void start() {
+        // Starts from whatever is published next, like a new subscriber
+        sequence.set(ringBuffer.claimed());
+        if (policy == BackpressurePolicy.BLOCK) {
+            ringBuffer.addGatingSequence(sequence);
+        }
+        running = true;
+        thread = Thread.ofPlatform().name("domain-events-" + name).daemon().start(this::run);
+    }
+
+    public void stop(long timeout, TimeUnit unit) throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(unit.toMillis(timeout));
+        }
+        ringBuffer.removeGatingSequence(sequence);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long handled() {
+        return handled.get();
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    public long failed() {
+        return failed.get();
+    }
+
+    public long lag() {
+        return Math.max(0, ringBuffer.claimed() - sequence.get());
+    }
+
+    private void run() {
+        List<T> batch = new ArrayList<>(batchSize);
+        int idleRounds = 0;
+
+        while (true) {
+            long next = read(sequence.get() + 1, batch);
+            sequence.set(next - 1);
+
+            if (!batch.isEmpty()) {
+                handle(batch);
+                idleRounds = 0;
+                continue;
+            }
+            if (!running) {
+                return;
+            }
+            idle(++idleRounds);
+        }
+    }
+
+    // Fills the batch starting at next and returns the first sequence that was not read
+    private long read(long next, List<T> batch) {
+        while (batch.size() < batchSize) {
+            long published = ringBuffer.publishedAt(next);
+            if (published == next) {
+                T value = ringBuffer.valueAt(next);
+                if (ringBuffer.publishedAt(next) == next) {
+                    batch.add(value);
+                    next++;
+                    continue;
+                }
+            }
+
+            long claimed = ringBuffer.claimed();
+            if (claimed - next >= ringBuffer.capacity()) {
+                // Lapped: the slot already holds a later event, resume at the oldest one still in the ring
+                long resume = claimed - ringBuffer.capacity() + 1;
+                dropped.addAndGet(resume - next);
+                next = resume;
+                continue;
+            }
+            break;
+        }
+        return next;
+    }
+
+    private void handle(List<T> batch) {
+        try {
+            handler.accept(batch);
+            handled.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            failed.addAndGet(batch.size());
+            System.err.println("❌ Domain event handler " + name + " failed on " + batch.size() + " events: " + e.getMessage());
+        } finally {
+            batch.clear();
+        }
+    }
+
+    // Spin briefly for bursts, then back off to parking so an idle consumer costs next to nothing
+    private void idle(int rounds) {
+        if (rounds < 100) {
+            Thread.onSpinWait();
+        } else if (rounds < 200) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(idleWaitNanos);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.trustbridge.Common.Events;
+
+import org.springframework.messaging.Message;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A committed status change of a job, milestone or payment request.
+ * The actor is resolved when the event is built, on the thread that made the change:
+ * the "actor" header if the caller set one, otherwise the authenticated user, otherwise "system".
+ */
+public record TransitionEvent(
+        String entityType,
+        UUID entityId,
+        Enum<?> from,
+        Enum<?> to,
+        Enum<?> event,
+        String actor,
+        Map<String, ?> headers,
+        OffsetDateTime occurredAt
+) {
+
+    public static final String SYSTEM_ACTOR = "system";
+    public static final String ACTOR_HEADER = "actor";
+
+    public static TransitionEvent of(String entityType, UUID entityId, Enum<?> from, Enum<?> to,
+                                     Message<? extends Enum<?>> message) {
+        return of(entityType, entityId, from, to, message.getPayload(), message.getHeaders());
+    }
+
+    public static TransitionEvent of(String entityType, UUID entityId, Enum<?> from, Enum<?> to, Enum<?> event,
+                                     Map<String, ?> headers) {
+        Object actor = headers.get(ACTOR_HEADER);
+        return new TransitionEvent(entityType, entityId, from, to, event,
+                actor != null ? actor.toString() : currentActor(), headers, OffsetDateTime.now());
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return SYSTEM_ACTOR;
+        }
+        return authentication.getName();
+    }
+}
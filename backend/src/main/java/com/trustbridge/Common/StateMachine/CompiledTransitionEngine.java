@@ -0,0 +1,114 @@
+package com.trustbridge.Common.StateMachine;
+
+import org.springframework.messaging.Message;
+import org.springframework.statemachine.StateContext;
+import org.springframework.statemachine.StateMachine;
+import org.springframework.statemachine.config.StateMachineFactory;
+import org.springframework.statemachine.support.DefaultStateContext;
+import org.springframework.statemachine.support.StateMachineInterceptor;
+import org.springframework.statemachine.transition.Transition;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Synchronous engine for the enum based lifecycles.
+ * The configured machine is read once at startup and flattened into a
+ * state x event table (indexed by ordinal) of candidate transitions, so firing an
+ * event is an array lookup plus guard evaluation on the caller's thread.
+ * The Spring State/Transition objects of that one template machine are handed to
+ * interceptors, which therefore see the same arguments they get from a real machine.
+ */
+public class CompiledTransitionEngine<S extends Enum<S>, E extends Enum<E>> implements TransitionEngine<S, E> {
+
+    private final StateMachine<S, E> template;
+    private final StateMachineInterceptor<S, E> interceptor;
+    private final CompiledTransition<S, E>[][][] table;
+
+    private record CompiledTransition<S, E>(Transition<S, E> transition,
+                                            Function<StateContext<S, E>, Mono<Boolean>> guard) { }
+
+    @SuppressWarnings("unchecked")
+    public CompiledTransitionEngine(String machineType,
+                                    Class<S> stateType,
+                                    Class<E> eventType,
+                                    StateMachineFactory<S, E> factory,
+                                    StateMachineInterceptor<S, E> interceptor) {
+        this.template = factory.getStateMachine(machineType + "-compiled");
+        this.interceptor = interceptor;
+
+        Map<S, Map<E, List<CompiledTransition<S, E>>>> bySource = new EnumMap<>(stateType);
+        for (Transition<S, E> transition : template.getTransitions()) {
+            if (transition.getTrigger() == null || transition.getTrigger().getEvent() == null) {
+                continue;
+            }
+            bySource.computeIfAbsent(transition.getSource().getId(), s -> new EnumMap<>(eventType))
+                    .computeIfAbsent(transition.getTrigger().getEvent(), e -> new ArrayList<>())
+                    .add(new CompiledTransition<>(transition, transition.getGuard()));
+        }
+
+        int states = stateType.getEnumConstants().length;
+        int events = eventType.getEnumConstants().length;
+        this.table = new CompiledTransition[states][events][];
+
+        bySource.forEach((source, byEvent) -> byEvent.forEach((event, candidates) ->
+                table[source.ordinal()][event.ordinal()] = candidates.toArray(new CompiledTransition[0])));
+    }
+
+    @Override
+    public Mono<TransitionResult<S>> fire(UUID entityId, S currentState, Message<E> message) {
+        return Mono.fromSupplier(() -> fireNow(entityId, currentState, message));
+    }
+
+    public TransitionResult<S> fireNow(UUID entityId, S currentState, Message<E> message) {
+        CompiledTransition<S, E> match = match(currentState, message);
+        if (match == null) {
+            return new TransitionResult<>(entityId, TransitionResult.Outcome.DENIED, currentState);
+        }
+
+        Transition<S, E> transition = match.transition();
+        interceptor.preStateChange(transition.getTarget(), message, transition, template, template);
+        interceptor.postStateChange(transition.getTarget(), message, transition, template, template);
+
+        return new TransitionResult<>(entityId, TransitionResult.Outcome.ACCEPTED, transition.getTarget().getId());
+    }
+
+    /**
+     * Works out where the event would take an entity in the given state without
+     * running interceptors. Returns null when no transition exists or every guard denies it.
+     */
+    public S resolve(S currentState, Message<E> message) {
+        CompiledTransition<S, E> match = match(currentState, message);
+        return match != null ? match.transition().getTarget().getId() : null;
+    }
+
+    public boolean hasTransition(S currentState, E event) {
+        return table[currentState.ordinal()][event.ordinal()] != null;
+    }
+
+    private CompiledTransition<S, E> match(S currentState, Message<E> message) {
+        CompiledTransition<S, E>[] candidates = table[currentState.ordinal()][message.getPayload().ordinal()];
+        if (candidates == null) {
+            return null;
+        }
+
+        for (CompiledTransition<S, E> candidate : candidates) {
+            if (candidate.guard() == null || Boolean.TRUE.equals(candidate.guard().apply(context(candidate, message)).block())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private StateContext<S, E> context(CompiledTransition<S, E> candidate, Message<E> message) {
+        Transition<S, E> transition = candidate.transition();
+        return new DefaultStateContext<>(StateContext.Stage.TRANSITION, message, message.getHeaders(),
+                template.getExtendedState(), transition, template,
+                transition.getSource(), transition.getTarget(), null);
+    }
+}
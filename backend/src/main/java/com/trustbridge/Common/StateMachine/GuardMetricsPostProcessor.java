@@ -0,0 +1,70 @@
+package com.trustbridge.Common.StateMachine;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.statemachine.StateContext;
+import org.springframework.statemachine.StateMachine;
+import org.springframework.statemachine.guard.Guard;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps every Guard bean so each evaluation is timed under its bean name.
+ * The machine tag comes from the machine id, which the engines build as "{machineType}-...".
+ * Metrics are looked up lazily because post processors are created before the meter registry.
+ */
+@Component
+public class GuardMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<TransitionMetrics> metrics;
+
+    public GuardMetricsPostProcessor(ObjectProvider<TransitionMetrics> metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof Guard guard && !(bean instanceof TimedGuard)) {
+            return new TimedGuard(beanName, guard, metrics);
+        }
+        return bean;
+    }
+
+    static String machineType(StateMachine<?, ?> stateMachine) {
+        String id = stateMachine != null ? stateMachine.getId() : null;
+        if (id == null) {
+            return "unknown";
+        }
+        int dash = id.indexOf('-');
+        return dash > 0 ? id.substring(0, dash) : id;
+    }
+
+    static final class TimedGuard<S, E> implements Guard<S, E> {
+
+        private final String name;
+        private final Guard<S, E> delegate;
+        private final ObjectProvider<TransitionMetrics> metrics;
+
+        TimedGuard(String name, Guard<S, E> delegate, ObjectProvider<TransitionMetrics> metrics) {
+            this.name = name;
+            this.delegate = delegate;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public boolean evaluate(StateContext<S, E> context) {
+            long start = System.nanoTime();
+            String result = "error";
+            try {
+                boolean passed = delegate.evaluate(context);
+                result = passed ? "pass" : "deny";
+                return passed;
+            } finally {
+                TransitionMetrics transitionMetrics = metrics.getIfAvailable();
+                if (transitionMetrics != null) {
+                    transitionMetrics.recordGuard(machineType(context.getStateMachine()), name, result, start);
+                }
+            }
+        }
+    }
+}
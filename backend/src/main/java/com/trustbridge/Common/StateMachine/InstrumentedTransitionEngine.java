@@ -0,0 +1,33 @@
+package com.trustbridge.Common.StateMachine;
+
+import org.springframework.messaging.Message;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Times every fire() of the wrapped engine and tags it with where it went and how it ended.
+ */
+public class InstrumentedTransitionEngine<S, E> implements TransitionEngine<S, E> {
+
+    private final String machineType;
+    private final TransitionEngine<S, E> delegate;
+    private final TransitionMetrics metrics;
+
+    public InstrumentedTransitionEngine(String machineType, TransitionEngine<S, E> delegate, TransitionMetrics metrics) {
+        this.machineType = machineType;
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Mono<TransitionResult<S>> fire(UUID entityId, S currentState, Message<E> message) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+
+            return delegate.fire(entityId, currentState, message)
+                    .doOnNext(result -> metrics.recordTransition(machineType, (Enum<?>) currentState, result, start))
+                    .doOnError(error -> metrics.recordTransitionError(machineType, (Enum<?>) currentState, error, start));
+        });
+    }
+}
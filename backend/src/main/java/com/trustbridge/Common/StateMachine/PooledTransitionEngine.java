@@ -0,0 +1,37 @@
+package com.trustbridge.Common.StateMachine;
+
+import org.springframework.messaging.Message;
+import org.springframework.statemachine.StateMachine;
+import org.springframework.statemachine.StateMachineEventResult;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public class PooledTransitionEngine<S, E> implements TransitionEngine<S, E> {
+
+    private final StateMachinePool<S, E> pool;
+
+    public PooledTransitionEngine(StateMachinePool<S, E> pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public Mono<TransitionResult<S>> fire(UUID entityId, S currentState, Message<E> message) {
+        return Mono.defer(() -> {
+            StateMachine<S, E> sm = pool.borrow(currentState);
+
+            return sm.sendEvent(Mono.just(message))
+                    .last()
+                    .map(result -> new TransitionResult<>(entityId, outcome(result.getResultType()), sm.getState().getId()))
+                    .doFinally(signal -> pool.release(sm));
+        });
+    }
+
+    private static TransitionResult.Outcome outcome(StateMachineEventResult.ResultType resultType) {
+        return switch (resultType) {
+            case ACCEPTED -> TransitionResult.Outcome.ACCEPTED;
+            case DENIED -> TransitionResult.Outcome.DENIED;
+            case DEFERRED -> TransitionResult.Outcome.DEFERRED;
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.trustbridge.Common.StateMachine;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Thrown when a status compare-and-set matched no row: the entity is gone or another
+ * request moved it out of the expected source state first.
+ */
+public class StaleTransitionException extends RuntimeException {
+
+    public StaleTransitionException(String entityType, UUID id, Enum<?> from, Enum<?> to) {
+        super(entityType + " " + id + " is no longer " + from + ", cannot move it to " + to);
+    }
+
+    public StaleTransitionException(String entityType, Collection<UUID> ids, Enum<?> from, Enum<?> to) {
+        super("Some of " + ids.size() + " " + entityType + "s are no longer " + from + ", cannot move them to " + to + ": " + ids);
+    }
+}
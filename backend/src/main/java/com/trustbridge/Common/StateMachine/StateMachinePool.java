@@ -0,0 +1,174 @@
+package com.trustbridge.Common.StateMachine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.statemachine.StateMachine;
+import org.springframework.statemachine.config.StateMachineFactory;
+import org.springframework.statemachine.support.DefaultStateMachineContext;
+import org.springframework.statemachine.support.StateMachineInterceptor;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps a bounded set of started state machines for one machine type so that
+ * firing an event only costs a reset to the entity's current status instead of
+ * building the whole machine graph from the factory.
+ * Idle machines are reused most-recently-released first; the oldest ones are
+ * dropped once they have been idle longer than the configured max idle time.
+ */
+public class StateMachinePool<S, E> {
+
+    private final String machineType;
+    private final StateMachineFactory<S, E> factory;
+    private final StateMachineInterceptor<S, E> interceptor;
+    private final StateMachineProperties.Pool config;
+
+    private final BlockingDeque<IdleMachine<S, E>> idle = new LinkedBlockingDeque<>();
+    private final Semaphore capacity;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    private final Timer borrowTimer;
+    private final Timer waitTimer;
+    private final Counter createdCounter;
+    private final Counter evictedCounter;
+    private final Timer buildTimer;
+
+    private record IdleMachine<S, E>(StateMachine<S, E> machine, long releasedAt) { }
+
+    public StateMachinePool(String machineType,
+                            StateMachineFactory<S, E> factory,
+                            StateMachineInterceptor<S, E> interceptor,
+                            StateMachineProperties.Pool config,
+                            MeterRegistry meterRegistry) {
+        this.machineType = machineType;
+        this.factory = factory;
+        this.interceptor = interceptor;
+        this.config = config;
+        this.capacity = new Semaphore(config.getMaxSize(), true);
+
+        this.borrowTimer = Timer.builder("trustbridge.statemachine.pool.borrow")
+                .description("Time to hand out a machine reset to the entity status, including any wait")
+                .tag("machine", machineType)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("trustbridge.statemachine.pool.wait")
+                .description("Time spent waiting for a free machine")
+                .tag("machine", machineType)
+                .register(meterRegistry);
+        this.createdCounter = Counter.builder("trustbridge.statemachine.pool.created")
+                .tag("machine", machineType)
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("trustbridge.statemachine.pool.evicted")
+                .tag("machine", machineType)
+                .register(meterRegistry);
+        this.buildTimer = TransitionMetrics.buildTimer(meterRegistry, machineType);
+        Gauge.builder("trustbridge.statemachine.pool.idle", idle, BlockingDeque::size)
+                .tag("machine", machineType)
+                .register(meterRegistry);
+        Gauge.builder("trustbridge.statemachine.pool.active", capacity, c -> config.getMaxSize() - c.availablePermits())
+                .tag("machine", machineType)
+                .register(meterRegistry);
+
+        int warm = Math.min(config.getMinIdle(), config.getMaxSize());
+        for (int i = 0; i < warm; i++) {
+            idle.offerFirst(new IdleMachine<>(create(), System.nanoTime()));
+        }
+    }
+
+    public StateMachine<S, E> borrow(S state) {
+        long start = System.nanoTime();
+
+        acquire();
+
+        StateMachine<S, E> sm;
+        try {
+            sm = takeIdleOrCreate();
+            reset(sm, state);
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+
+        borrowTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return sm;
+    }
+
+    public void release(StateMachine<S, E> sm) {
+        if (sm.hasStateMachineError()) {
+            discard(sm);
+        } else {
+            idle.offerFirst(new IdleMachine<>(sm, System.nanoTime()));
+        }
+        capacity.release();
+        evictIdle();
+    }
+
+    private void acquire() {
+        long start = System.nanoTime();
+        try {
+            if (!capacity.tryAcquire(config.getMaxWait().toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new StateMachinePoolExhaustedException(machineType);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StateMachinePoolExhaustedException(machineType);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private StateMachine<S, E> takeIdleOrCreate() {
+        IdleMachine<S, E> candidate;
+        while ((candidate = idle.pollFirst()) != null) {
+            if (!isStale(candidate)) {
+                return candidate.machine();
+            }
+            discard(candidate.machine());
+        }
+        return create();
+    }
+
+    private StateMachine<S, E> create() {
+        StateMachine<S, E> sm = buildTimer.record(() -> factory.getStateMachine(machineType + "-" + sequence.incrementAndGet()));
+
+        sm.getStateMachineAccessor().doWithAllRegions(accessor -> accessor.addStateMachineInterceptor(interceptor));
+
+        createdCounter.increment();
+        return sm;
+    }
+
+    private void reset(StateMachine<S, E> sm, S state) {
+        sm.stopReactively().block();
+
+        sm.getStateMachineAccessor().doWithAllRegions(accessor ->
+                accessor.resetStateMachineReactively(new DefaultStateMachineContext<>(
+                        state, null, null, null
+                )).block());
+
+        sm.startReactively().block();
+    }
+
+    private void evictIdle() {
+        while (idle.size() > config.getMinIdle()) {
+            IdleMachine<S, E> oldest = idle.peekLast();
+            if (oldest == null || !isStale(oldest) || !idle.removeLastOccurrence(oldest)) {
+                return;
+            }
+            discard(oldest.machine());
+        }
+    }
+
+    private boolean isStale(IdleMachine<S, E> candidate) {
+        return System.nanoTime() - candidate.releasedAt() > config.getMaxIdle().toNanos();
+    }
+
+    private void discard(StateMachine<S, E> sm) {
+        sm.stopReactively().subscribe();
+        evictedCounter.increment();
+    }
+}
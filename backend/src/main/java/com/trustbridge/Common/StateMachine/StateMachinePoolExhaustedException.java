@@ -0,0 +1,8 @@
+package com.trustbridge.Common.StateMachine;
+
+public class StateMachinePoolExhaustedException extends RuntimeException {
+
+    public StateMachinePoolExhaustedException(String machineType) {
+        super("No " + machineType + " state machine available in pool");
+    }
+}
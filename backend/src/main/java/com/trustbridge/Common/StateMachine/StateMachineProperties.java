@@ -0,0 +1,40 @@
+package com.trustbridge.Common.StateMachine;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "trustbridge.state-machine")
+public class StateMachineProperties {
+
+    // POOLED runs events through reusable Spring state machines, COMPILED through the precompiled transition table
+    private Engine engine = Engine.POOLED;
+
+    private Pool pool = new Pool();
+
+    public enum Engine {
+        POOLED,
+        COMPILED
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        // Upper bound on machines per machine type (idle + borrowed)
+        private int maxSize = 16;
+
+        // Machines built and started when the pool is created
+        private int minIdle = 2;
+
+        // How long a caller waits for a free machine before failing
+        private Duration maxWait = Duration.ofSeconds(2);
+
+        // Idle machines older than this are dropped instead of reused
+        private Duration maxIdle = Duration.ofMinutes(10);
+    }
+}
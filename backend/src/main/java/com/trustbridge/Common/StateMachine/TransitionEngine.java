@@ -0,0 +1,17 @@
+package com.trustbridge.Common.StateMachine;
+
+import org.springframework.messaging.Message;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Runs a single lifecycle event against an entity that is currently in the given state.
+ * Guards and interceptors configured for the machine type apply as usual.
+ * Nothing runs until the returned Mono is subscribed.
+ */
+public interface TransitionEngine<S, E> {
+
+    Mono<TransitionResult<S>> fire(UUID entityId, S currentState, Message<E> message);
+
+}
@@ -0,0 +1,34 @@
+package com.trustbridge.Common.StateMachine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.statemachine.config.StateMachineFactory;
+import org.springframework.statemachine.support.StateMachineInterceptor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TransitionEngineFactory {
+
+    private final StateMachineProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TransitionMetrics metrics;
+
+    public TransitionEngineFactory(StateMachineProperties properties, MeterRegistry meterRegistry, TransitionMetrics metrics) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.metrics = metrics;
+    }
+
+    public <S extends Enum<S>, E extends Enum<E>> TransitionEngine<S, E> create(String machineType,
+                                                                             Class<S> stateType,
+                                                                             Class<E> eventType,
+                                                                             StateMachineFactory<S, E> factory,
+                                                                             StateMachineInterceptor<S, E> interceptor) {
+        TransitionEngine<S, E> engine = switch (properties.getEngine()) {
+            case COMPILED -> metrics.buildTimer(machineType).record(() ->
+                    new CompiledTransitionEngine<>(machineType, stateType, eventType, factory, interceptor));
+            case POOLED -> new PooledTransitionEngine<>(
+                    new StateMachinePool<>(machineType, factory, interceptor, properties.getPool(), meterRegistry));
+        };
+        return new InstrumentedTransitionEngine<>(machineType, engine, metrics);
+    }
+}
@@ -0,0 +1,104 @@
+package com.trustbridge.Common.StateMachine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Meters for the lifecycle state machines, all tagged with the machine type (job, milestone, payment, dispute):
+ *
+ * trustbridge.statemachine.transition  timer, whole fire() call, tagged source / target / outcome
+ * trustbridge.statemachine.transitions counter, every transition incl. bulk ones, same tags
+ * trustbridge.statemachine.persist     timer, the status compare-and-set, tagged source / target / result
+ * trustbridge.statemachine.guard       timer, one guard evaluation, tagged guard / result
+ * trustbridge.statemachine.build       timer, building a machine from its factory
+ *
+ * Outcomes are accepted, denied (no transition or a guard said no), deferred, stale (lost the
+ * compare-and-set to a concurrent change) and error.
+ */
+@Component
+public class TransitionMetrics {
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public TransitionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordTransition(String machine, Enum<?> source, TransitionResult<?> result, long startNanos) {
+        String target = result.isAccepted() ? tag(result.state()) : NONE;
+        String outcome = result.outcome().name().toLowerCase();
+
+        record(machine, tag(source), target, outcome, startNanos);
+    }
+
+    public void recordTransitionError(String machine, Enum<?> source, Throwable error, long startNanos) {
+        record(machine, tag(source), NONE, error instanceof StaleTransitionException ? "stale" : "error", startNanos);
+    }
+
+    // For transitions that don't go through fire(), e.g. bulk milestone updates
+    public void countTransition(String machine, Enum<?> source, Enum<?> target, String outcome, int count) {
+        counter(machine, tag(source), target != null ? tag(target) : NONE, outcome).increment(count);
+    }
+
+    public boolean timePersist(String machine, Enum<?> source, Enum<?> target, BooleanSupplier write) {
+        long start = System.nanoTime();
+        String result = "error";
+        try {
+            boolean moved = write.getAsBoolean();
+            result = moved ? "updated" : "stale";
+            return moved;
+        } finally {
+            Timer.builder("trustbridge.statemachine.persist")
+                    .description("Time to write a status change with its compare-and-set UPDATE")
+                    .tags("machine", machine, "source", tag(source), "target", tag(target), "result", result)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordGuard(String machine, String guard, String result, long startNanos) {
+        Timer.builder("trustbridge.statemachine.guard")
+                .description("Time to evaluate one transition guard")
+                .tags("machine", machine, "guard", guard, "result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public Timer buildTimer(String machine) {
+        return buildTimer(meterRegistry, machine);
+    }
+
+    static Timer buildTimer(MeterRegistry meterRegistry, String machine) {
+        return Timer.builder("trustbridge.statemachine.build")
+                .description("Time to build a state machine from its factory")
+                .tag("machine", machine)
+                .register(meterRegistry);
+    }
+
+    private void record(String machine, String source, String target, String outcome, long startNanos) {
+        Timer.builder("trustbridge.statemachine.transition")
+                .description("Time to fire one event, from loading the machine to the persisted status")
+                .tags("machine", machine, "source", source, "target", target, "outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+        counter(machine, source, target, outcome).increment();
+    }
+
+    private Counter counter(String machine, String source, String target, String outcome) {
+        return Counter.builder("trustbridge.statemachine.transitions")
+                .tags("machine", machine, "source", source, "target", target, "outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String tag(Object state) {
+        return state != null ? state.toString() : NONE;
+    }
+}
@@ -0,0 +1,5 @@
+package com.trustbridge.Common.StateMachine;
+
+import java.util.UUID;
+
+public record TransitionRequest<E>(UUID entityId, E event) { }
@@ -0,0 +1,19 @@
+package com.trustbridge.Common.StateMachine;
+
+import java.util.UUID;
+
+/**
+ * What happened to one event: whether the machine took it and the state the entity is in afterwards.
+ */
+public record TransitionResult<S>(UUID entityId, Outcome outcome, S state) {
+
+    public enum Outcome {
+        ACCEPTED,
+        DENIED,
+        DEFERRED
+    }
+
+    public boolean isAccepted() {
+        return outcome == Outcome.ACCEPTED;
+    }
+}
@@ -0,0 +1,24 @@
+package com.trustbridge.Common.Web;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Weak ETags built from what identifies a representation (ids, updated_at, counts) rather than
+ * from the response body, so they can be checked before the body is loaded.
+ * The parts are hashed so ids and timestamps don't leak through the header.
+ */
+public final class ETags {
+
+    private ETags() { }
+
+    public static String weak(Object... parts) {
+        StringBuilder key = new StringBuilder();
+        for (Object part : parts) {
+            // Same instant, same tag, whatever offset the driver handed back
+            key.append(part instanceof OffsetDateTime time ? time.toInstant() : part).append('|');
+        }
+        return "W/\"" + UUID.nameUUIDFromBytes(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,18 @@
+package com.trustbridge.Common.Web;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "trustbridge.response-cache")
+public class SerializedResponseProperties {
+
+    // Keep serialised response bodies by version; off means every response is serialised again
+    private boolean enabled = true;
+
+    // Total size of the kept bodies, least recently used are dropped first
+    private DataSize maxSize = DataSize.ofMegabytes(16);
+}
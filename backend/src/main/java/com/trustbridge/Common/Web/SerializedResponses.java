@@ -0,0 +1,78 @@
+package com.trustbridge.Common.Web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * JSON bodies for the hot read endpoints, written with an ObjectWriter built once per DTO type from
+ * the application's JsonMapper, so they match what MVC would have written.
+ * With the cache on, the UTF-8 bytes are kept under the version they were built from (entity id +
+ * updated_at, see ETags), so a changed resource gets a new key and never needs evicting; an unchanged
+ * one is served without loading or serialising anything. The byte[] body goes through
+ * ByteArrayHttpMessageConverter, which copies it straight to the response stream.
+ */
+@Component
+public class SerializedResponses {
+
+    private record Key(Class<?> type, Object version) { }
+
+    private final JsonMapper jsonMapper;
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    // Null when trustbridge.response-cache.enabled=false
+    private final Cache<Key, byte[]> bodies;
+
+    public SerializedResponses(JsonMapper jsonMapper, SerializedResponseProperties properties, MeterRegistry meterRegistry) {
+        this.jsonMapper = jsonMapper;
+
+        if (properties.isEnabled()) {
+            this.bodies = Caffeine.newBuilder()
+                    .maximumWeight(properties.getMaxSize().toBytes())
+                    .weigher((Key key, byte[] body) -> body.length)
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, bodies, "responses");
+        } else {
+            this.bodies = null;
+        }
+    }
+
+    public <T> byte[] write(Class<T> type, T body) {
+        return writer(type).writeValueAsBytes(body);
+    }
+
+    /**
+     * The body serialised for this version, building it only when it isn't kept already.
+     * The version has to change whenever anything the body shows changes.
+     */
+    public <T> byte[] write(Class<T> type, Object version, Supplier<? extends T> body) {
+        if (bodies == null) {
+            return write(type, body.get());
+        }
+        return bodies.get(new Key(type, version), key -> write(type, body.get()));
+    }
+
+    // 200 with the bytes as JSON; no-cache so clients revalidate with the ETag every time
+    public static ResponseEntity<byte[]> ok(byte[] body) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private ObjectWriter writer(Class<?> type) {
+        return writers.computeIfAbsent(type, jsonMapper::writerFor);
+    }
+}
@@ -0,0 +1,16 @@
+package com.trustbridge.Config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+@Configuration
+public class JacksonConfig {
+
+    // Swaps reflective getter/constructor calls for generated lambdas; Boot adds every JacksonModule bean to the JsonMapper
+    @Bean
+    public JacksonModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,15 @@
+package com.trustbridge.Config.Security;
+
+import com.trustbridge.Domain.Enums.UserRole.role;
+
+import java.security.Principal;
+import java.util.UUID;
+
+// Principal rebuilt from a verified access token, so controllers get the user id without a lookup
+public record AuthenticatedUser(UUID id, String email, role role) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,8 @@
+package com.trustbridge.Config.Security;
+
+public class InvalidTokenException extends RuntimeException {
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
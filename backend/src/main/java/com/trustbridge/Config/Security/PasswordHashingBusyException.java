@@ -0,0 +1,8 @@
+package com.trustbridge.Config.Security;
+
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
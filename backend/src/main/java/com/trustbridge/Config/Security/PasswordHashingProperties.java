@@ -0,0 +1,25 @@
+package com.trustbridge.Config.Security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "trustbridge.auth.hashing")
+public class PasswordHashingProperties {
+
+    // BCrypt cost; raising it rehashes each user's password the next time they log in
+    private int bcryptStrength = 10;
+
+    // Hashing threads, 0 means one per CPU since BCrypt is pure CPU work
+    private int threads = 0;
+
+    // Hashes allowed to wait for a thread; beyond this logins are turned away straight away with a 503
+    private int queueCapacity = 32;
+
+    // Longest a caller waits for a queued hash before giving up
+    private Duration maxWait = Duration.ofSeconds(2);
+}
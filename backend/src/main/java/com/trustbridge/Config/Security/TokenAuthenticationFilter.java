@@ -0,0 +1,78 @@
+package com.trustbridge.Config.Security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authenticates "Authorization: Bearer" requests from the access token alone.
+ * Requests without a token carry on anonymously; a bad or expired token is a 401 so the
+ * client knows to refresh instead of silently being treated as logged out.
+ * A browser EventSource can't set headers, so opening a job's event stream may instead pass a
+ * short-lived STREAM token as ?token=. Nothing else accepts it, and that route accepts nothing else from the URL.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+    private static final String STREAM_TOKEN_PARAMETER = "token";
+    private static final RequestMatcher EVENT_STREAM = PathPatternRequestMatcher.withDefaults()
+            .matcher(HttpMethod.GET, "/api/job/*/events");
+
+    private final TokenService tokenService;
+
+    public TokenAuthenticationFilter(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String token;
+        TokenType type;
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            token = header.substring(BEARER.length()).trim();
+            type = TokenType.ACCESS;
+        } else if (request.getParameter(STREAM_TOKEN_PARAMETER) != null && EVENT_STREAM.matches(request)) {
+            token = request.getParameter(STREAM_TOKEN_PARAMETER);
+            type = TokenType.STREAM;
+        } else {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        TokenClaims claims;
+        try {
+            claims = tokenService.verify(token, type);
+        } catch (InvalidTokenException e) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, e.getMessage());
+            return;
+        }
+
+        AuthenticatedUser user = new AuthenticatedUser(claims.userId(), claims.email(), claims.role());
+        UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                user, null, List.of(new SimpleGrantedAuthority("ROLE_" + claims.role().name())));
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+
+        filterChain.doFilter(request, response);
+    }
+}
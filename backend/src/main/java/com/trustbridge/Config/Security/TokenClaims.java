@@ -0,0 +1,16 @@
+package com.trustbridge.Config.Security;
+
+import com.trustbridge.Domain.Enums.UserRole.role;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record TokenClaims(
+        UUID userId,
+        String email,
+        role role,
+        TokenType type,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+}
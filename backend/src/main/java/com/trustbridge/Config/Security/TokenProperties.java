@@ -0,0 +1,26 @@
+package com.trustbridge.Config.Security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "trustbridge.auth.token")
+public class TokenProperties {
+
+    // HMAC-SHA256 key shared by every node, at least 32 bytes; left empty a random per-process key is used
+    private String secret;
+
+    private String issuer = "trustbridge";
+
+    // Access tokens are never looked up, so this is also how long a deleted user or changed role can linger
+    private Duration accessTtl = Duration.ofMinutes(15);
+
+    private Duration refreshTtl = Duration.ofDays(14);
+
+    // Stream tokens ride in the URL and can end up in access logs, so they only live long enough to connect
+    private Duration streamTtl = Duration.ofMinutes(1);
+}
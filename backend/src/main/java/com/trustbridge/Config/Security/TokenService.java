@@ -0,0 +1,181 @@
+package com.trustbridge.Config.Security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trustbridge.Domain.Enums.UserRole.role;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Issues and verifies HS256 JWTs. Verification is one HMAC over the header and payload plus
+ * a JSON parse, with no database or session lookup, so any node holding the shared secret
+ * can authenticate any request.
+ */
+@Service
+public class TokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    // Only HS256 is accepted, so the header is a constant and compared as a string
+    private static final String HEADER = ENCODER.encodeToString(
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final TokenProperties properties;
+    private final Clock clock;
+    private final SecretKeySpec key;
+
+    // Initialised Macs ready for reuse. A Mac is not thread safe, so each sign takes one out and puts it back;
+    // when all are in use a new one is made and dropped afterwards if the pool is full
+    private final BlockingQueue<Mac> macs = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    @Autowired
+    public TokenService(TokenProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    public TokenService(TokenProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+
+        this.key = new SecretKeySpec(secret(properties), ALGORITHM);
+        this.macs.offer(newMac());
+    }
+
+    public String issue(UUID userId, String email, role role, TokenType type) {
+        Instant now = clock.instant();
+        Instant expiresAt = now.plus(switch (type) {
+            case ACCESS -> properties.getAccessTtl();
+            case REFRESH -> properties.getRefreshTtl();
+            case STREAM -> properties.getStreamTtl();
+        });
+
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("iss", properties.getIssuer());
+        claims.put("sub", userId.toString());
+        claims.put("email", email);
+        claims.put("role", role.name());
+        claims.put("typ", type.name());
+        claims.put("iat", now.getEpochSecond());
+        claims.put("exp", expiresAt.getEpochSecond());
+
+        String signingInput = HEADER + "." + ENCODER.encodeToString(toJson(claims));
+        return signingInput + "." + ENCODER.encodeToString(sign(signingInput));
+    }
+
+    public TokenClaims verify(String token, TokenType expectedType) {
+        String[] parts = token.split("\\.", -1);
+        if (parts.length != 3 || !HEADER.equals(parts[0])) {
+            throw new InvalidTokenException("Malformed token");
+        }
+
+        byte[] signature;
+        JsonNode claims;
+        try {
+            signature = DECODER.decode(parts[2]);
+            if (!MessageDigest.isEqual(signature, sign(parts[0] + "." + parts[1]))) {
+                throw new InvalidTokenException("Invalid token signature");
+            }
+            claims = JSON.readTree(DECODER.decode(parts[1]));
+        } catch (IllegalArgumentException | IOException e) {
+            throw new InvalidTokenException("Malformed token");
+        }
+
+        if (!properties.getIssuer().equals(claims.path("iss").asText())
+                || !expectedType.name().equals(claims.path("typ").asText())) {
+            throw new InvalidTokenException("Wrong token type");
+        }
+
+        Instant expiresAt = Instant.ofEpochSecond(claims.path("exp").asLong());
+        if (!clock.instant().isBefore(expiresAt)) {
+            throw new InvalidTokenException("Token expired");
+        }
+
+        try {
+            return new TokenClaims(
+                    UUID.fromString(claims.path("sub").asText()),
+                    claims.path("email").asText(),
+                    role.valueOf(claims.path("role").asText()),
+                    expectedType,
+                    Instant.ofEpochSecond(claims.path("iat").asLong()),
+                    expiresAt
+            );
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTokenException("Malformed token");
+        }
+    }
+
+    public long accessTtlSeconds() {
+        return properties.getAccessTtl().toSeconds();
+    }
+
+    public long streamTtlSeconds() {
+        return properties.getStreamTtl().toSeconds();
+    }
+
+    private byte[] sign(String signingInput) {
+        Mac mac = macs.poll();
+        if (mac == null) {
+            mac = newMac();
+        }
+        try {
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } finally {
+            macs.offer(mac);
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private static byte[] toJson(Map<String, Object> claims) {
+        try {
+            return JSON.writeValueAsBytes(claims);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] secret(TokenProperties properties) {
+        if (properties.getSecret() == null || properties.getSecret().isBlank()) {
+            System.out.println("⚠️ trustbridge.auth.token.secret is not set, using a random key: tokens won't survive a restart or work across nodes");
+            byte[] random = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(random);
+            return random;
+        }
+
+        byte[] secret = properties.getSecret().getBytes(StandardCharsets.UTF_8);
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("trustbridge.auth.token.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        return secret;
+    }
+}
@@ -0,0 +1,8 @@
+package com.trustbridge.Config.Security;
+
+public enum TokenType {
+        ACCESS,
+        REFRESH,
+        // Only for opening a job's event stream, which a browser EventSource can't send a header to
+        STREAM
+}
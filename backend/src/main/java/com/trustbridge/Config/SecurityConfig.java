@@ -1,31 +1,55 @@
 package com.trustbridge.Config;
 
+import com.trustbridge.Config.Security.OffloadingPasswordEncoder;
+import com.trustbridge.Config.Security.PasswordHashingProperties;
+import com.trustbridge.Config.Security.TokenAuthenticationFilter;
+import com.trustbridge.Config.Security.TokenService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, TokenService tokenService) throws Exception {
         http
                 // 1. Disable CSRF security checks completely
                 .csrf(csrf -> csrf.disable())
                 // 2. Disable CORS blocks temporarily
                 .cors(cors -> cors.disable())
-                // 3. Let EVERY request through without logging in
+                // Bearer access tokens carry the user, so there is no HTTP session to create or replicate
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(new TokenAuthenticationFilter(tokenService), UsernamePasswordAuthenticationFilter.class)
+                // A missing token is a 401; a token for the wrong user is a 403 from the controller
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
                 .authorizeHttpRequests(auth -> auth
+                        // Job listings are per party, the caller must be that party
+                        .requestMatchers("/api/job/freelancer/**", "/api/job/client/**").authenticated()
+                        // A job's live events are only streamed to its freelancer and client
+                        .requestMatchers("/api/job/*/events", "/api/job/*/events/token").authenticated()
+                        // Transition timelines name the actors, parties and admins only
+                        .requestMatchers("/api/audit/**").authenticated()
+                        // 3. Let EVERY other request through without logging in
                         .anyRequest().permitAll()
                 );
         return http.build();
@@ -36,8 +60,22 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    // Cached user lookups in front of the database, and stored hashes are upgraded on login when the cost changes
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(); // Never store plain text passwords!
+    public DaoAuthenticationProvider daoAuthenticationProvider(UserDetailsService userDetailsService,
+                                                               UserDetailsPasswordService userDetailsPasswordService,
+                                                               UserCache userCache,
+                                                               PasswordEncoder passwordEncoder) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsPasswordService(userDetailsPasswordService);
+        provider.setUserCache(userCache);
+        return provider;
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        // Never store plain text passwords! BCrypt runs on its own bounded pool; past its queue logins are rejected instead of piling up
+        return new OffloadingPasswordEncoder(new BCryptPasswordEncoder(properties.getBcryptStrength()), properties, meterRegistry);
     }
 }
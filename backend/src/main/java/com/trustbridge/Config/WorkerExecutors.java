@@ -0,0 +1,39 @@
+package com.trustbridge.Config;
+
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors for the workers that block on outbound IO (SMTP, applying Stripe events).
+ * With spring.threads.virtual.enabled=true every task runs on its own virtual thread, capped at
+ * the worker count; otherwise it is a fixed pool of platform threads. Either way shutdown waits
+ * up to 30s for running tasks and rejects new ones, which the dispatchers already handle.
+ */
+public final class WorkerExecutors {
+
+    private static final int SHUTDOWN_WAIT_SECONDS = 30;
+
+    private WorkerExecutors() { }
+
+    public static AsyncTaskExecutor ioWorkers(String threadNamePrefix, int workers, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(workers);
+            executor.setTaskTerminationTimeout(SHUTDOWN_WAIT_SECONDS * 1000L);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(SHUTDOWN_WAIT_SECONDS);
+        return executor;
+    }
+}
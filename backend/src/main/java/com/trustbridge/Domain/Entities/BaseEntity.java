@@ -1,5 +1,6 @@
 package com.trustbridge.Domain.Entities;
 
+import com.trustbridge.Domain.Ids.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,7 +14,7 @@ import java.util.UUID;
 public abstract class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @UuidV7Id
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -25,10 +26,6 @@ public abstract class BaseEntity {
 
     @PrePersist
     protected void onCreate() {
-        if (this.id == null) {
-            this.id = UUID.randomUUID();
-        }
-
         OffsetDateTime dateTimeNow = OffsetDateTime.now();
 
         if (this.createdAt == null &&  this.updatedAt == null) {
@@ -37,4 +34,11 @@ public abstract class BaseEntity {
         }
     }
 
+    // Conditional GETs build their ETag from updated_at, so every dirty flush has to move it.
+    // Bulk UPDATE queries skip entity callbacks and set updated_at = now() themselves
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = OffsetDateTime.now();
+    }
+
 }
@@ -38,7 +38,10 @@ public class PaymentRequest extends BaseEntity {
     @Column(name = "expires_at", nullable = false)
     private OffsetDateTime expiresAt;
 
+    // Overrides the @PrePersist callback, so JPA only calls this one and it has to stamp the timestamps too
+    @Override
     protected void onCreate() {
+        super.onCreate();
         if (paymentLinkToken == null) {
             paymentLinkToken = UUID.randomUUID();
         }
@@ -0,0 +1,52 @@
+package com.trustbridge.Domain.Entities;
+
+import com.trustbridge.Domain.Enums.StripeWebhookEventStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "stripe_webhook_inbox")
+public class StripeWebhookEvent extends BaseEntity {
+
+    @Column(name = "stripe_event_id", length = 255, nullable = false, unique = true, updatable = false)
+    private String stripeEventId;
+
+    @Column(name = "event_type", length = 100, nullable = false, updatable = false)
+    private String eventType;
+
+    // Events sharing a key are applied strictly one after another, oldest first
+    @Column(name = "ordering_key", length = 255, nullable = false, updatable = false)
+    private String orderingKey;
+
+    @Column(name = "payload", columnDefinition = "TEXT", nullable = false, updatable = false)
+    private String payload;
+
+    @Column(name = "stripe_created_at", nullable = false, updatable = false)
+    private OffsetDateTime stripeCreatedAt;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private StripeWebhookEventStatus status = StripeWebhookEventStatus.PENDING;
+
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "processed_at")
+    private OffsetDateTime processedAt;
+
+}
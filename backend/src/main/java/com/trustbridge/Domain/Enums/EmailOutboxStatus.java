@@ -0,0 +1,7 @@
+package com.trustbridge.Domain.Enums;
+
+public enum EmailOutboxStatus {
+        PENDING,
+        SENT,
+        FAILED
+}
@@ -0,0 +1,8 @@
+package com.trustbridge.Domain.Enums;
+
+public enum StripeWebhookEventStatus {
+        PENDING,
+        PROCESSED,
+        IGNORED,
+        FAILED
+}
@@ -0,0 +1,46 @@
+package com.trustbridge.Domain.Projections;
+
+import com.trustbridge.Domain.Enums.JobStatus.jobStatus;
+import com.trustbridge.Domain.Enums.UserRole.role;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Everything the invite pages show about a job, flattened so it can be cached
+ * without holding on to entities or their lazy associations.
+ * Built straight from a JPQL constructor expression in JobRepository.findInviteByToken.
+ */
+public record InviteProjection(
+        UUID jobId,
+        String inviteToken,
+        String title,
+        String description,
+        String freelancerFirstName,
+        String freelancerLastName,
+        String freelancerEmail,
+        BigDecimal amount,
+        String currency,
+        String clientEmail,
+        role clientRole,
+        jobStatus status,
+        OffsetDateTime jobUpdatedAt,
+        OffsetDateTime freelancerUpdatedAt,
+        OffsetDateTime clientUpdatedAt
+) {
+
+    // What the invite was built from, compared against JobRepository.findInviteVersionByToken
+    public InviteVersion version() {
+        return new InviteVersion(jobId, jobUpdatedAt, freelancerUpdatedAt, clientUpdatedAt);
+    }
+
+    public String freelancerName() {
+        return freelancerFirstName + " " + freelancerLastName;
+    }
+
+    // A client that has already signed up, as opposed to a guest created from the invite
+    public boolean hasRegisteredClient() {
+        return clientRole != null && clientRole != role.CLIENT_GUEST;
+    }
+}
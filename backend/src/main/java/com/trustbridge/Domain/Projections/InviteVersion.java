@@ -0,0 +1,15 @@
+package com.trustbridge.Domain.Projections;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * The updated_at of the rows an invite page is built from: the job, its freelancer, and the client once there is one.
+ * Loaded on its own so a conditional GET can be answered without building the page.
+ */
+public record InviteVersion(
+        UUID jobId,
+        OffsetDateTime jobUpdatedAt,
+        OffsetDateTime freelancerUpdatedAt,
+        OffsetDateTime clientUpdatedAt
+) { }
@@ -0,0 +1,12 @@
+package com.trustbridge.Domain.Projections;
+
+import java.time.OffsetDateTime;
+
+/**
+ * How many jobs a party has and when any of them last changed. A job being added, removed or
+ * changing status moves one of the two, so it stands in for every page of that party's listing.
+ */
+public record JobListingVersion(
+        long jobs,
+        OffsetDateTime lastUpdatedAt
+) { }
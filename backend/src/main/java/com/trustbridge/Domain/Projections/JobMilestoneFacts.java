@@ -0,0 +1,54 @@
+package com.trustbridge.Domain.Projections;
+
+import java.math.BigDecimal;
+
+/**
+ * What the job guards need to know about a job's milestones, from one aggregate query
+ * (MilestoneRepository.findJobFacts). Cancelled milestones don't count towards "all".
+ * DISPUTE_RESOLVED is terminal and the resolution decided its money, so it counts as finished:
+ * submitted, approved and settled, with nothing outstanding.
+ * Attached to job events under HEADER by JobStateService.
+ */
+public record JobMilestoneFacts(
+        long total,
+        long cancelled,
+        // SUBMITTED or further along (APPROVED, PAID_OUT, DISPUTE_RESOLVED)
+        long submitted,
+        // APPROVED, PAID_OUT or DISPUTE_RESOLVED
+        long approved,
+        // PAID_OUT or DISPUTE_RESOLVED
+        long settled,
+        // DISPUTE_NEGOTIATION or DISPUTE_ARBITRATION
+        long disputed,
+        // 1 when the sequence 1 milestone has been paid for and moved past AWAITING_PAYMENT
+        long firstMilestoneFunded,
+        // Milestone amounts not yet settled, cancelled ones excluded
+        BigDecimal outstandingAmount
+) {
+
+    public static final String HEADER = "milestoneFacts";
+
+    public long active() {
+        return total - cancelled;
+    }
+
+    public boolean allSubmitted() {
+        return active() > 0 && submitted == active();
+    }
+
+    public boolean allApproved() {
+        return active() > 0 && approved == active();
+    }
+
+    public boolean allSettled() {
+        return active() > 0 && settled == active() && outstandingAmount.signum() == 0;
+    }
+
+    public boolean isFirstMilestoneFunded() {
+        return firstMilestoneFunded > 0;
+    }
+
+    public boolean hasOpenDispute() {
+        return disputed > 0;
+    }
+}
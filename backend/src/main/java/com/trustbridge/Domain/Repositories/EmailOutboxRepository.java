@@ -0,0 +1,33 @@
+package com.trustbridge.Domain.Repositories;
+
+import com.trustbridge.Domain.Entities.EmailOutbox;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, UUID> {
+
+    // Rows locked by another dispatcher are skipped rather than waited on, so workers never contend
+    @Query(value = """
+            SELECT * FROM email_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= now()
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<EmailOutbox> lockDue(@Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query("update EmailOutbox e set e.status = com.trustbridge.Domain.Enums.EmailOutboxStatus.SENT, " +
+            "e.sentAt = :sentAt, e.lastError = null, e.updatedAt = :sentAt where e.id in :ids")
+    int markSent(@Param("ids") Collection<UUID> ids, @Param("sentAt") OffsetDateTime sentAt);
+
+}
@@ -1,8 +1,18 @@
 package com.trustbridge.Domain.Repositories;
 
 import com.trustbridge.Domain.Entities.Jobs;
+import com.trustbridge.Domain.Enums.JobStatus.jobStatus;
+import com.trustbridge.Domain.Projections.InviteProjection;
+import com.trustbridge.Domain.Projections.InviteVersion;
+import com.trustbridge.Domain.Projections.JobListingVersion;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,4 +20,88 @@ public interface JobRepository extends JpaRepository<Jobs, UUID> {
 
     Optional<Jobs> findByInviteToken(String inviteToken);
 
+    // Read model for the invite pages in one joined SELECT, the client is optional until the invite is accepted
+    @Query("select new com.trustbridge.Domain.Projections.InviteProjection(" +
+            "j.id, j.inviteToken, j.title, j.description, " +
+            "f.firstName, f.lastName, f.email, " +
+            "j.totalAmount, j.currency, c.email, c.userRole, j.status, j.updatedAt, f.updatedAt, c.updatedAt) " +
+            "from Jobs j join j.freelancer f left join j.client c " +
+            "where j.inviteToken = :token")
+    Optional<InviteProjection> findInviteByToken(@Param("token") String token);
+
+    // Just the timestamps behind the invite page, for its ETag
+    @Query("select new com.trustbridge.Domain.Projections.InviteVersion(j.id, j.updatedAt, f.updatedAt, c.updatedAt) " +
+            "from Jobs j join j.freelancer f left join j.client c " +
+            "where j.inviteToken = :token")
+    Optional<InviteVersion> findInviteVersionByToken(@Param("token") String token);
+
+    // Left join: a job still waiting for its client has no client row
+    @Query("select case when count(j) > 0 then true else false end " +
+            "from Jobs j left join j.client c " +
+            "where j.id = :jobId and (j.freelancer.id = :userId or c.id = :userId)")
+    boolean isParty(@Param("jobId") UUID jobId, @Param("userId") UUID userId);
+
+    @Query("select new com.trustbridge.Domain.Projections.JobListingVersion(count(j), max(j.updatedAt)) " +
+            "from Jobs j where j.freelancer.id = :userId")
+    JobListingVersion findFreelancerListingVersion(@Param("userId") UUID userId);
+
+    @Query("select new com.trustbridge.Domain.Projections.JobListingVersion(count(j), max(j.updatedAt)) " +
+            "from Jobs j where j.client.id = :userId")
+    JobListingVersion findClientListingVersion(@Param("userId") UUID userId);
+
+    // Keyset pages, newest first. The (created_at, id) row comparison lets Postgres seek straight to the
+    // cursor in the matching composite index (V3), so page cost doesn't grow with how deep the page is
+    @Query(value = """
+            SELECT * FROM jobs
+            WHERE freelancer_id = :userId AND (created_at, id) < (:createdAt, :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Jobs> findFreelancerPage(@Param("userId") UUID userId,
+                                  @Param("createdAt") OffsetDateTime createdAt, @Param("id") UUID id,
+                                  @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM jobs
+            WHERE freelancer_id = :userId AND status = :status AND (created_at, id) < (:createdAt, :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Jobs> findFreelancerPageByStatus(@Param("userId") UUID userId, @Param("status") String status,
+                                          @Param("createdAt") OffsetDateTime createdAt, @Param("id") UUID id,
+                                          @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM jobs
+            WHERE client_id = :userId AND (created_at, id) < (:createdAt, :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Jobs> findClientPage(@Param("userId") UUID userId,
+                              @Param("createdAt") OffsetDateTime createdAt, @Param("id") UUID id,
+                              @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM jobs
+            WHERE client_id = :userId AND status = :status AND (created_at, id) < (:createdAt, :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Jobs> findClientPageByStatus(@Param("userId") UUID userId, @Param("status") String status,
+                                      @Param("createdAt") OffsetDateTime createdAt, @Param("id") UUID id,
+                                      @Param("limit") int limit);
+
+    @Query("select e.status from Jobs e where e.id = :id")
+    Optional<jobStatus> findStatusById(@Param("id") UUID id);
+
+    // Compare-and-set: only moves the row if it is still in the expected status
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE jobs SET status = :to, updated_at = now() WHERE id = :id AND status = :from", nativeQuery = true)
+    int updateStatusIfCurrent(@Param("id") UUID id, @Param("from") String from, @Param("to") String to);
+
+    default boolean transitionStatus(UUID id, jobStatus from, jobStatus to) {
+        return updateStatusIfCurrent(id, from.name(), to.name()) == 1;
+    }
+
 }
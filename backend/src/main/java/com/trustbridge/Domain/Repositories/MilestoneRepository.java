@@ -1,8 +1,16 @@
 package com.trustbridge.Domain.Repositories;
 
 import com.trustbridge.Domain.Entities.Milestones;
+import com.trustbridge.Domain.Enums.MilestoneStatus.milestoneStatus;
+import com.trustbridge.Domain.Projections.JobMilestoneFacts;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,4 +19,62 @@ public interface MilestoneRepository extends JpaRepository<Milestones, UUID> {
     Optional<Milestones> findByJobId(UUID jobId);
     List<Milestones> findAllByJobId(UUID jobId);
 
+    @Query("select e.status from Milestones e where e.id = :id")
+    Optional<milestoneStatus> findStatusById(@Param("id") UUID id);
+
+    @Query("select e.job.id from Milestones e where e.id = :id")
+    Optional<UUID> findJobIdById(@Param("id") UUID id);
+
+    // One pass over the job's milestones (milestones.job_id is indexed), however many there are
+    @Query("select new com.trustbridge.Domain.Projections.JobMilestoneFacts(" +
+            "count(m), " +
+            "count(case when m.status = :cancelled then 1 end), " +
+            "count(case when m.status in :submitted then 1 end), " +
+            "count(case when m.status in :approved then 1 end), " +
+            "count(case when m.status in :settled then 1 end), " +
+            "count(case when m.status in :disputed then 1 end), " +
+            "count(case when m.sequenceOrder = 1 and m.status not in :unfunded then 1 end), " +
+            "coalesce(sum(case when m.status not in :closed then m.amount end), 0)) " +
+            "from Milestones m where m.job.id = :jobId")
+    JobMilestoneFacts findJobFacts(@Param("jobId") UUID jobId,
+                                   @Param("cancelled") milestoneStatus cancelled,
+                                   @Param("submitted") Collection<milestoneStatus> submitted,
+                                   @Param("approved") Collection<milestoneStatus> approved,
+                                   @Param("settled") Collection<milestoneStatus> settled,
+                                   @Param("disputed") Collection<milestoneStatus> disputed,
+                                   @Param("unfunded") Collection<milestoneStatus> unfunded,
+                                   @Param("closed") Collection<milestoneStatus> closed);
+
+    default JobMilestoneFacts findJobFacts(UUID jobId) {
+        return findJobFacts(jobId,
+                milestoneStatus.CANCELLED,
+                EnumSet.of(milestoneStatus.SUBMITTED, milestoneStatus.APPROVED, milestoneStatus.PAID_OUT,
+                        milestoneStatus.DISPUTE_RESOLVED),
+                EnumSet.of(milestoneStatus.APPROVED, milestoneStatus.PAID_OUT, milestoneStatus.DISPUTE_RESOLVED),
+                EnumSet.of(milestoneStatus.PAID_OUT, milestoneStatus.DISPUTE_RESOLVED),
+                EnumSet.of(milestoneStatus.DISPUTE_NEGOTIATION, milestoneStatus.DISPUTE_ARBITRATION),
+                EnumSet.of(milestoneStatus.LOCKED, milestoneStatus.AWAITING_PAYMENT, milestoneStatus.CANCELLED),
+                EnumSet.of(milestoneStatus.PAID_OUT, milestoneStatus.DISPUTE_RESOLVED, milestoneStatus.CANCELLED));
+    }
+
+    // Compare-and-set: only moves the row if it is still in the expected status
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE milestones SET status = :to, updated_at = now() WHERE id = :id AND status = :from", nativeQuery = true)
+    int updateStatusIfCurrent(@Param("id") UUID id, @Param("from") String from, @Param("to") String to);
+
+    default boolean transitionStatus(UUID id, milestoneStatus from, milestoneStatus to) {
+        return updateStatusIfCurrent(id, from.name(), to.name()) == 1;
+    }
+
+    // Bulk compare-and-set for a group of milestones that share the same source and target status
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(value = "UPDATE milestones SET status = :to, updated_at = now() WHERE id IN (:ids) AND status = :from", nativeQuery = true)
+    int updateStatusesIfCurrent(@Param("ids") Collection<UUID> ids, @Param("from") String from, @Param("to") String to);
+
+    default boolean transitionStatuses(Collection<UUID> ids, milestoneStatus from, milestoneStatus to) {
+        return updateStatusesIfCurrent(ids, from.name(), to.name()) == ids.size();
+    }
+
 }
@@ -2,9 +2,58 @@ package com.trustbridge.Domain.Repositories;
 
 
 import com.trustbridge.Domain.Entities.PaymentRequest;
+import com.trustbridge.Domain.Enums.PaymentRequestStatus;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface PaymentRequestRepository extends JpaRepository<PaymentRequest, UUID> {
+
+    @Query("select e.status from PaymentRequest e where e.id = :id")
+    Optional<PaymentRequestStatus> findStatusById(@Param("id") UUID id);
+
+    @Query("select e.milestone.job.id from PaymentRequest e where e.id = :id")
+    Optional<UUID> findJobIdById(@Param("id") UUID id);
+
+    // Compare-and-set: only moves the row if it is still in the expected status
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE payment_requests SET status = :to, updated_at = now() WHERE id = :id AND status = :from", nativeQuery = true)
+    int updateStatusIfCurrent(@Param("id") UUID id, @Param("from") String from, @Param("to") String to);
+
+    default boolean transitionStatus(UUID id, PaymentRequestStatus from, PaymentRequestStatus to) {
+        return updateStatusIfCurrent(id, from.name(), to.name()) == 1;
+    }
+
+    // Oldest overdue requests first; rows another sweeper has locked are skipped, so instances split the backlog
+    @Query(value = """
+            SELECT id FROM payment_requests
+            WHERE status = 'PENDING' AND expires_at <= now()
+            ORDER BY expires_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<UUID> lockExpired(@Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(value = "UPDATE payment_requests SET status = 'EXPIRED', updated_at = now() WHERE id IN (:ids) AND status = 'PENDING'",
+            nativeQuery = true)
+    int markExpired(@Param("ids") Collection<UUID> ids);
+
+    @Query(value = "SELECT id FROM payment_requests WHERE stripe_session_id = :sessionId", nativeQuery = true)
+    Optional<UUID> findIdByStripeSessionId(@Param("sessionId") String sessionId);
+
+    @Query("select min(p.expiresAt) from PaymentRequest p " +
+            "where p.status = com.trustbridge.Domain.Enums.PaymentRequestStatus.PENDING and p.expiresAt <= :now")
+    Optional<OffsetDateTime> findOldestExpiredPending(@Param("now") OffsetDateTime now);
+
 }
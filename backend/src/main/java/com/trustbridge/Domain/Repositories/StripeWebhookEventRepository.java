@@ -0,0 +1,64 @@
+package com.trustbridge.Domain.Repositories;
+
+import com.trustbridge.Domain.Entities.StripeWebhookEvent;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface StripeWebhookEventRepository extends JpaRepository<StripeWebhookEvent, UUID> {
+
+    // Stripe retries deliver the same event id again; the unique constraint turns those into a no-op returning 0
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO stripe_webhook_inbox (id, stripe_event_id, event_type, ordering_key, payload, stripe_created_at)
+            VALUES (:id, :stripeEventId, :eventType, :orderingKey, :payload, :stripeCreatedAt)
+            ON CONFLICT (stripe_event_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("stripeEventId") String stripeEventId,
+                       @Param("eventType") String eventType,
+                       @Param("orderingKey") String orderingKey,
+                       @Param("payload") String payload,
+                       @Param("stripeCreatedAt") OffsetDateTime stripeCreatedAt);
+
+    // A handled event type we can't act on: kept for the record as IGNORED, so the dispatcher never picks it up
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO stripe_webhook_inbox (id, stripe_event_id, event_type, ordering_key, payload, stripe_created_at,
+                                              status, last_error, processed_at)
+            VALUES (:id, :stripeEventId, :eventType, :stripeEventId, :payload, :stripeCreatedAt,
+                    'IGNORED', :reason, now())
+            ON CONFLICT (stripe_event_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIgnoredIfAbsent(@Param("id") UUID id,
+                              @Param("stripeEventId") String stripeEventId,
+                              @Param("eventType") String eventType,
+                              @Param("payload") String payload,
+                              @Param("stripeCreatedAt") OffsetDateTime stripeCreatedAt,
+                              @Param("reason") String reason);
+
+    // Only the oldest unfinished event of each ordering key is eligible, so later events for the same
+    // payment wait until it is processed or given up on; SKIP LOCKED keeps concurrent dispatchers apart
+    @Query(value = """
+            SELECT * FROM stripe_webhook_inbox i
+            WHERE i.status = 'PENDING' AND i.next_attempt_at <= now()
+              AND NOT EXISTS (
+                  SELECT 1 FROM stripe_webhook_inbox e
+                  WHERE e.ordering_key = i.ordering_key
+                    AND e.status = 'PENDING'
+                    AND (e.stripe_created_at, e.id) < (i.stripe_created_at, i.id))
+            ORDER BY i.stripe_created_at, i.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<StripeWebhookEvent> lockDue(@Param("limit") int limit);
+
+}
@@ -1,11 +1,60 @@
 package com.trustbridge.Domain.Repositories;
 
 import com.trustbridge.Domain.Entities.Users;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<Users, UUID> {
-    Optional<Users> findByEmail(String email);
+
+    // Emails are unique case-insensitively (uq_users_email_lower), so lookups match on lower(email) too
+    @Query("select u from Users u where lower(u.email) = lower(:email)")
+    Optional<Users> findByEmail(@Param("email") String email);
+
+    @Modifying
+    @Transactional
+    @Query("update Users u set u.password = :passwordHash, u.updatedAt = offset datetime where lower(u.email) = lower(:email)")
+    int updatePasswordHash(@Param("email") String email, @Param("passwordHash") String passwordHash);
+
+    // Inserts a CLIENT_GUEST or hands back whoever already owns the email, in one statement.
+    // The no-op DO UPDATE is there so RETURNING also yields the existing row (DO NOTHING returns nothing)
+    @Transactional
+    @Query(value = """
+            INSERT INTO users (id, email, phone_number, first_name, last_name, role, created_at, updated_at)
+            VALUES (:id, :email, :phoneNumber, :firstName, :lastName, 'CLIENT_GUEST', now(), now())
+            ON CONFLICT ((lower(email))) DO UPDATE SET email = users.email
+            RETURNING *
+            """, nativeQuery = true)
+    Users upsertGuest(@Param("id") UUID id,
+                      @Param("email") String email,
+                      @Param("phoneNumber") String phoneNumber,
+                      @Param("firstName") String firstName,
+                      @Param("lastName") String lastName);
+
+    // Inserts a registered user, or upgrades the CLIENT_GUEST that a job invite created for the same email.
+    // Any other existing account fails the DO UPDATE ... WHERE, so nothing is returned and the email is taken
+    @Transactional
+    @Query(value = """
+            INSERT INTO users (id, email, password_hash, first_name, last_name, role, created_at, updated_at)
+            VALUES (:id, :email, :passwordHash, :firstName, :lastName, :role, now(), now())
+            ON CONFLICT ((lower(email))) DO UPDATE
+                SET password_hash = EXCLUDED.password_hash,
+                    first_name = EXCLUDED.first_name,
+                    last_name = EXCLUDED.last_name,
+                    role = EXCLUDED.role,
+                    updated_at = now()
+                WHERE users.role = 'CLIENT_GUEST'
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<Users> upsertRegistered(@Param("id") UUID id,
+                                     @Param("email") String email,
+                                     @Param("passwordHash") String passwordHash,
+                                     @Param("firstName") String firstName,
+                                     @Param("lastName") String lastName,
+                                     @Param("role") String role);
 }
@@ -0,0 +1,177 @@
+package com.trustbridge.Domain.Values;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+/**
+ * An amount of money held as a long count of minor units (pence, cents) plus its currency.
+ * Arithmetic is plain long maths with overflow checks, so 100.0 and 100.00 GBP are both 10000
+ * and compare equal, unlike BigDecimal.equals. Amounts finer than the currency allows are rejected
+ * rather than rounded, an escrow total should never silently lose a penny.
+ * On the wire it is {"amount": 100.00, "currency": "GBP"}, the same shape jackson-datatype-money
+ * writes for a MonetaryAmount, so either side can read the other.
+ */
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE,
+        getterVisibility = JsonAutoDetect.Visibility.NONE,
+        isGetterVisibility = JsonAutoDetect.Visibility.NONE)
+@JsonPropertyOrder({"amount", "currency"})
+public final class Money implements Comparable<Money> {
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    public static Money ofMinor(long minorUnits, String currencyCode) {
+        return new Money(minorUnits, currency(currencyCode));
+    }
+
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, currency);
+    }
+
+    @JsonCreator
+    public static Money of(@JsonProperty("amount") BigDecimal amount, @JsonProperty("currency") String currencyCode) {
+        Currency currency = currency(currencyCode);
+        return new Money(toMinorUnits(amount, currency), currency);
+    }
+
+    public static Money zero(String currencyCode) {
+        return new Money(0, currency(currencyCode));
+    }
+
+    public static Money from(MonetaryAmount amount) {
+        return of(amount.getNumber().numberValueExact(BigDecimal.class), amount.getCurrency().getCurrencyCode());
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    public Currency currency() {
+        return currency;
+    }
+
+    @JsonProperty("currency")
+    public String currencyCode() {
+        return currency.getCurrencyCode();
+    }
+
+    @JsonProperty("amount")
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits());
+    }
+
+    public MonetaryAmount toMonetaryAmount() {
+        CurrencyUnit unit = javax.money.Monetary.getCurrency(currency.getCurrencyCode());
+        return org.javamoney.moneta.Money.of(toBigDecimal(), unit);
+    }
+
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    // Adds an amount given in this money's currency, without building a Money for it first
+    public Money plus(BigDecimal amount) {
+        return new Money(Math.addExact(minorUnits, toMinorUnits(amount, currency)), currency);
+    }
+
+    public Money minus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    /**
+     * Splits into parts that differ by at most one minor unit and always add back up to this amount.
+     * The leftover pennies go to the first parts: 100.00 in 3 is 33.34, 33.33, 33.33.
+     */
+    public Money[] split(int parts) {
+        if (parts <= 0) {
+            throw new IllegalArgumentException("Cannot split money into " + parts + " parts");
+        }
+
+        long share = minorUnits / parts;
+        long remainder = minorUnits % parts;
+        long step = Long.signum(remainder);
+
+        Money[] result = new Money[parts];
+        for (int i = 0; i < parts; i++) {
+            result[i] = new Money(i < Math.abs(remainder) ? share + step : share, currency);
+        }
+        return result;
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && minorUnits == other.minorUnits && currency == other.currency;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return currency.getCurrencyCode() + " " + toBigDecimal().toPlainString();
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (currency != other.currency) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency.getCurrencyCode()
+                    + " and " + other.currency.getCurrencyCode());
+        }
+    }
+
+    // Currency.getInstance hands back one shared instance per code, so == is safe above
+    private static Currency currency(String currencyCode) {
+        if (currencyCode == null) {
+            throw new IllegalArgumentException("Currency is required");
+        }
+        Currency currency = Currency.getInstance(currencyCode);
+        if (currency.getDefaultFractionDigits() < 0) {
+            throw new IllegalArgumentException("Currency has no minor unit: " + currencyCode);
+        }
+        return currency;
+    }
+
+    private static long toMinorUnits(BigDecimal amount, Currency currency) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount is required");
+        }
+        try {
+            return amount.setScale(currency.getDefaultFractionDigits(), RoundingMode.UNNECESSARY)
+                    .unscaledValue()
+                    .longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount " + amount.toPlainString() + " is not a whole number of "
+                    + currency.getCurrencyCode() + " minor units", e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.trustbridge.Features.Audit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "trustbridge.audit")
+public class AuditProperties {
+
+    // Most rows per multi-row INSERT; the writer takes whatever is queued up to this
+    private int batchSize = 200;
+
+    // Records waiting for the writer; past this the publishing thread writes its record itself
+    private int queueSize = 10000;
+
+    // Pause before the writer retries a batch whose insert failed
+    private Duration retryDelay = Duration.ofSeconds(1);
+}
@@ -0,0 +1,64 @@
+package com.trustbridge.Features.Audit.Controllers.API;
+
+import com.trustbridge.Config.Security.AuthenticatedUser;
+import com.trustbridge.Domain.Enums.UserRole.role;
+import com.trustbridge.Domain.Repositories.JobRepository;
+import com.trustbridge.Domain.Repositories.MilestoneRepository;
+import com.trustbridge.Domain.Repositories.PaymentRequestRepository;
+import com.trustbridge.Features.Audit.StateTransitionRecord;
+import com.trustbridge.Features.Audit.TransitionAuditLog;
+import com.trustbridge.Features.Audit.UnknownEntityTypeException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/audit")
+public class TransitionAuditController {
+
+    private final TransitionAuditLog transitionAuditLog;
+    private final JobRepository jobRepository;
+    private final MilestoneRepository milestoneRepository;
+    private final PaymentRequestRepository paymentRequestRepository;
+
+    public TransitionAuditController(TransitionAuditLog transitionAuditLog,
+                                     JobRepository jobRepository,
+                                     MilestoneRepository milestoneRepository,
+                                     PaymentRequestRepository paymentRequestRepository) {
+        this.transitionAuditLog = transitionAuditLog;
+        this.jobRepository = jobRepository;
+        this.milestoneRepository = milestoneRepository;
+        this.paymentRequestRepository = paymentRequestRepository;
+    }
+
+    // Oldest first; a change made in the last few milliseconds may still be on its way to the table.
+    // The records carry the actors' emails, so only admins and the parties of the entity's job may read them
+    @GetMapping("/{entityType}/{entityId}/transitions")
+    public ResponseEntity<List<StateTransitionRecord>> timeline(@PathVariable String entityType,
+                                                                @PathVariable UUID entityId,
+                                                                @AuthenticationPrincipal AuthenticatedUser user) {
+        Optional<UUID> jobId = jobIdOf(entityType, entityId);
+        if (user.role() != role.ADMIN
+                && jobId.map(id -> !jobRepository.isParty(id, user.id())).orElse(true)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(transitionAuditLog.timeline(entityType, entityId));
+    }
+
+    private Optional<UUID> jobIdOf(String entityType, UUID entityId) {
+        return switch (entityType) {
+            case "job" -> Optional.of(entityId);
+            case "milestone" -> milestoneRepository.findJobIdById(entityId);
+            case "payment" -> paymentRequestRepository.findJobIdById(entityId);
+            default -> throw new UnknownEntityTypeException(entityType);
+        };
+    }
+}
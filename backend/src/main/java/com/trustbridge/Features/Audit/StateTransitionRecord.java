@@ -0,0 +1,18 @@
+package com.trustbridge.Features.Audit;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+public record StateTransitionRecord(
+        UUID id,
+        String entityType,
+        UUID entityId,
+        String fromStatus,
+        String toStatus,
+        String event,
+        String actor,
+        Map<String, String> headers,
+        OffsetDateTime occurredAt
+) {
+}
@@ -0,0 +1,206 @@
+package com.trustbridge.Features.Audit;
+
+import com.trustbridge.Common.Events.DomainEventSink;
+import com.trustbridge.Common.Events.TransitionEvent;
+import com.trustbridge.Domain.Ids.UuidV7;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only history of every status change. Transitions reach it from the DomainEventBus after
+ * commit, so rolled back transitions never show up in the timeline.
+ * It is a DomainEventSink rather than a ring handler: every record goes into its own bounded queue,
+ * and a writer thread empties that queue in multi-row INSERTs. A batch whose insert fails stays
+ * pending and is retried after trustbridge.audit.retry-delay. When the queue is full, the
+ * publishing thread writes its own record in a new transaction (trustbridge.audit.spilled). That
+ * costs the request an extra connection and a round trip, but it keeps the record.
+ * This is not lossless. Records still queued when the process dies are gone. Records are also
+ * counted in trustbridge.audit.lost when a spill write fails or a retry is still failing at shutdown.
+ */
+@Component
+public class TransitionAuditLog implements DomainEventSink {
+
+    private static final long POLL_WAIT_MILLIS = 100;
+
+    private final TransitionAuditRepository transitionAuditRepository;
+    private final int batchSize;
+    private final long retryDelayNanos;
+
+    private final BlockingQueue<StateTransitionRecord> queue;
+    // Only touched by the writer thread (or by whoever calls flush when it isn't running)
+    private final List<StateTransitionRecord> pending;
+
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Counter spilledCounter;
+    private final Counter lostCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public TransitionAuditLog(TransitionAuditRepository transitionAuditRepository,
+                              AuditProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.transitionAuditRepository = transitionAuditRepository;
+        this.batchSize = properties.getBatchSize();
+        this.retryDelayNanos = properties.getRetryDelay().toNanos();
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueSize());
+        this.pending = new ArrayList<>(batchSize);
+
+        this.writtenCounter = Counter.builder("trustbridge.audit.written")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("trustbridge.audit.failed")
+                .description("Batch inserts that failed; the batch is kept and retried")
+                .register(meterRegistry);
+        this.spilledCounter = Counter.builder("trustbridge.audit.spilled")
+                .description("Transition records written on the publishing thread because the queue was full")
+                .register(meterRegistry);
+        this.lostCounter = Counter.builder("trustbridge.audit.lost")
+                .description("Transition records that could not be written at all")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("trustbridge.audit.flush")
+                .description("Time to write one batch of transition records")
+                .register(meterRegistry);
+        Gauge.builder("trustbridge.audit.queued", queue, BlockingQueue::size)
+                .description("Transition records waiting for the writer")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void accept(TransitionEvent event) {
+        StateTransitionRecord record = toRecord(event);
+        if (queue.offer(record)) {
+            return;
+        }
+
+        // The writer is a whole queue behind: write this one here rather than lose it
+        try {
+            transitionAuditRepository.insertAll(List.of(record));
+            spilledCounter.increment();
+        } catch (RuntimeException e) {
+            lostCounter.increment();
+            System.err.println("❌ Lost transition record for " + record.entityType() + " " + record.entityId()
+                    + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes up to one batch of queued records. Returns false if the insert failed,
+     * in which case the batch stays pending and the next call tries it again first.
+     */
+    public boolean flush() {
+        queue.drainTo(pending, batchSize - pending.size());
+        if (pending.isEmpty()) {
+            return true;
+        }
+
+        List<StateTransitionRecord> batch = List.copyOf(pending);
+        try {
+            flushTimer.record(() -> transitionAuditRepository.insertAll(batch));
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            System.err.println("❌ Failed to write " + batch.size() + " transition records, will retry: "
+                    + e.getMessage());
+            return false;
+        }
+
+        writtenCounter.increment(batch.size());
+        pending.clear();
+        return true;
+    }
+
+    public List<StateTransitionRecord> timeline(String entityType, UUID entityId) {
+        return transitionAuditRepository.findTimeline(entityType, entityId);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("transition-audit").daemon().start(this::run);
+    }
+
+    // The bus depends on this bean, so it has stopped publishing by the time this runs
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private void run() {
+        while (running) {
+            if (pending.isEmpty()) {
+                StateTransitionRecord next;
+                try {
+                    next = queue.poll(POLL_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                if (next == null) {
+                    continue;
+                }
+                pending.add(next);
+            }
+
+            if (!flush()) {
+                LockSupport.parkNanos(retryDelayNanos);
+            }
+        }
+
+        // Shutting down: write what is left, but don't retry forever against a database that is gone
+        while (!pending.isEmpty() || !queue.isEmpty()) {
+            if (!flush()) {
+                int lost = pending.size() + queue.size();
+                lostCounter.increment(lost);
+                System.err.println("❌ Lost " + lost + " transition records on shutdown");
+                return;
+            }
+        }
+    }
+
+    private static StateTransitionRecord toRecord(TransitionEvent event) {
+        return new StateTransitionRecord(
+                UuidV7.next(),
+                event.entityType(),
+                event.entityId(),
+                event.from() != null ? event.from().name() : null,
+                event.to().name(),
+                event.event() != null ? event.event().name() : null,
+                event.actor(),
+                auditHeaders(event.headers()),
+                event.occurredAt()
+        );
+    }
+
+    // Entity ids and framework headers are already columns or noise, keep what the caller added
+    private static Map<String, String> auditHeaders(Map<String, ?> headers) {
+        Map<String, String> kept = new LinkedHashMap<>();
+        headers.forEach((key, value) -> {
+            if (value != null && !key.equals(MessageHeaders.ID) && !key.equals(MessageHeaders.TIMESTAMP)
+                    && !key.equals(TransitionEvent.ACTOR_HEADER) && !key.endsWith("Id")) {
+                kept.put(key, value.toString());
+            }
+        });
+        return kept;
+    }
+}
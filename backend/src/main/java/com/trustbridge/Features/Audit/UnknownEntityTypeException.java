@@ -0,0 +1,8 @@
+package com.trustbridge.Features.Audit;
+
+public class UnknownEntityTypeException extends RuntimeException {
+
+    public UnknownEntityTypeException(String entityType) {
+        super("Unknown entity type: " + entityType);
+    }
+}
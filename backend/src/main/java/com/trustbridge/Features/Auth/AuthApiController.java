@@ -1,13 +1,13 @@
 package com.trustbridge.Features.Auth;
 
 import com.trustbridge.Features.Auth.Dto.LoginDto;
+import com.trustbridge.Features.Auth.Dto.RefreshTokenDto;
 import com.trustbridge.Features.Auth.Dto.RegistrationDTO;
+import com.trustbridge.Features.Auth.Dto.TokenResponseDto;
 import jakarta.servlet.Registration;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -19,7 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthApiController {
 
     private final RegistrationService registrationService;
-    private final AuthenticationManager authenticationManager;
+    private final AuthenticationService authenticationService;
 
     @PostMapping("/register")
     public ResponseEntity<String> register(@Valid @RequestBody RegistrationDTO dto) {
@@ -30,12 +30,13 @@ public class AuthApiController {
 
 
     @PostMapping("/login")
-    public ResponseEntity<String> login(@Valid @RequestBody LoginDto dto) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(dto.email(), dto.password())
-        );
+    public ResponseEntity<TokenResponseDto> login(@Valid @RequestBody LoginDto dto) {
+        return ResponseEntity.ok(authenticationService.login(dto));
+    }
 
-        return ResponseEntity.ok("Successfully logged in!");
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponseDto> refresh(@Valid @RequestBody RefreshTokenDto dto) {
+        return ResponseEntity.ok(authenticationService.refresh(dto.refreshToken()));
     }
 
 }
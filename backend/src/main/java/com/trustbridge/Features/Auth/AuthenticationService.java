@@ -0,0 +1,70 @@
+package com.trustbridge.Features.Auth;
+
+import com.trustbridge.Config.Security.InvalidTokenException;
+import com.trustbridge.Config.Security.TokenClaims;
+import com.trustbridge.Config.Security.TokenService;
+import com.trustbridge.Config.Security.TokenType;
+import com.trustbridge.Domain.Entities.Users;
+import com.trustbridge.Domain.Enums.UserRole.role;
+import com.trustbridge.Domain.Repositories.UserRepository;
+import com.trustbridge.Features.Auth.Dto.LoginDto;
+import com.trustbridge.Features.Auth.Dto.TokenResponseDto;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Service
+public class AuthenticationService {
+
+    private final AuthenticationManager authenticationManager;
+    private final TokenService tokenService;
+    private final UserRepository userRepository;
+
+    public AuthenticationService(AuthenticationManager authenticationManager,
+                                 TokenService tokenService,
+                                 UserRepository userRepository) {
+        this.authenticationManager = authenticationManager;
+        this.tokenService = tokenService;
+        this.userRepository = userRepository;
+    }
+
+    public TokenResponseDto login(LoginDto dto) {
+        Authentication authentication = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(dto.email(), dto.password())
+        );
+
+        TrustBridgeUserDetails user = (TrustBridgeUserDetails) authentication.getPrincipal();
+        return issue(user.getId(), user.getUsername(), user.getRole());
+    }
+
+    /**
+     * Swaps a valid refresh token for a new pair. This is the only point after login where the
+     * user is read again, so a deleted user or a changed role takes effect at the next refresh.
+     */
+    public TokenResponseDto refresh(String refreshToken) {
+        TokenClaims claims;
+        try {
+            claims = tokenService.verify(refreshToken, TokenType.REFRESH);
+        } catch (InvalidTokenException e) {
+            throw new BadCredentialsException(e.getMessage());
+        }
+
+        Users user = userRepository.findById(claims.userId())
+                .orElseThrow(() -> new BadCredentialsException("User no longer exists"));
+
+        return issue(user.getId(), user.getEmail(), user.getUserRole());
+    }
+
+    private TokenResponseDto issue(UUID userId, String email, role role) {
+        return new TokenResponseDto(
+                tokenService.issue(userId, email, role, TokenType.ACCESS),
+                tokenService.issue(userId, email, role, TokenType.REFRESH),
+                "Bearer",
+                tokenService.accessTtlSeconds()
+        );
+    }
+}
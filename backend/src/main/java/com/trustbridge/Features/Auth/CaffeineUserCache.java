@@ -0,0 +1,50 @@
+package com.trustbridge.Features.Auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived cache of login users used by DaoAuthenticationProvider, so repeated logins for
+ * the same account skip the user query. A wrong password on a cached entry makes the provider
+ * reload from the database before failing, so a fresh password change still works.
+ * Entries are copied in and out because ProviderManager erases the credentials of the
+ * UserDetails it hands back, which would otherwise blank the cached hash.
+ */
+@Component
+public class CaffeineUserCache implements UserCache {
+
+    private final Cache<String, TrustBridgeUserDetails> usersByEmail;
+
+    public CaffeineUserCache(UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this.usersByEmail = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByEmail, "login-users");
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        TrustBridgeUserDetails user = usersByEmail.getIfPresent(username);
+        return user != null ? user.copy() : null;
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        if (user instanceof TrustBridgeUserDetails details && details.getPassword() != null) {
+            usersByEmail.put(details.getUsername(), details.copy());
+        }
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        usersByEmail.invalidate(username);
+    }
+}
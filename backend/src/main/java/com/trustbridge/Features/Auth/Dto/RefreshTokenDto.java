@@ -0,0 +1,8 @@
+package com.trustbridge.Features.Auth.Dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenDto(
+        @NotBlank(message = "Refresh token is required")
+        String refreshToken
+) { }
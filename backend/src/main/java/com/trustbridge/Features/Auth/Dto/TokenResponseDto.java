@@ -0,0 +1,8 @@
+package com.trustbridge.Features.Auth.Dto;
+
+public record TokenResponseDto(
+        String accessToken,
+        String refreshToken,
+        String tokenType,
+        long expiresIn
+) { }
@@ -1,5 +1,10 @@
 package com.trustbridge.Features.Auth;
 
+import com.trustbridge.Config.Security.PasswordHashingBusyException;
+import com.trustbridge.Features.Audit.UnknownEntityTypeException;
+import com.trustbridge.Features.Jobs.Service.InvalidCursorException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -10,6 +15,29 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Only errors whose message is safe to show; any other IllegalArgumentException is a bug, not a bad request
+    @ExceptionHandler({InvalidCursorException.class, UnknownEntityTypeException.class, RoleNotAllowedException.class})
+    public ResponseEntity<String> handleBadRequest(RuntimeException ex) {
+        return ResponseEntity.badRequest().body(ex.getMessage());
+    }
+
+    // Login storm: the hashing queue is full, tell the client to back off rather than time out
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<String> handlePasswordHashingBusy(PasswordHashingBusyException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
+
+    // The provider wraps anything thrown while loading the user, including a rejected timing-attack hash
+    @ExceptionHandler(org.springframework.security.authentication.InternalAuthenticationServiceException.class)
+    public ResponseEntity<String> handleInternalAuthentication(org.springframework.security.authentication.InternalAuthenticationServiceException ex) {
+        if (ex.getCause() instanceof PasswordHashingBusyException busy) {
+            return handlePasswordHashingBusy(busy);
+        }
+        return ResponseEntity.internalServerError().body("An unexpected error occurred");
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<String> handleRuntimeException(RuntimeException ex) {
         // If the message is "Email already in use", send a 400 instead of 500
@@ -2,30 +2,47 @@ package com.trustbridge.Features.Auth;
 
 import com.trustbridge.Domain.Entities.Users;
 import com.trustbridge.Domain.Repositories.UserRepository;
-import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class JpaUserDetailsService implements UserDetailsService {
+public class JpaUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
-    public JpaUserDetailsService(UserRepository userRepository) {
+    public JpaUserDetailsService(UserRepository userRepository, UserCache userCache) {
         this.userRepository = userRepository;
+        this.userCache = userCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         Users user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
 
-        return org.springframework.security.core.userdetails.User
-                .withUsername(user.getEmail())
-                .password(user.getPassword()) // Is this 'getPassword()' or 'getPasswordHash()'?
-                .authorities(user.getUserRole().name())
-                .build();
+        // Guest clients have no password yet; an empty hash never matches so they can't log in
+        return new TrustBridgeUserDetails(
+                user.getId(),
+                user.getEmail(),
+                user.getPassword() != null ? user.getPassword() : "",
+                user.getUserRole()
+        );
+    }
+
+    // Called by DaoAuthenticationProvider after a successful login when the stored hash used an older cost
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordHash(user.getUsername(), newPassword);
+        userCache.removeUserFromCache(user.getUsername());
+
+        if (user instanceof TrustBridgeUserDetails details) {
+            return new TrustBridgeUserDetails(details.getId(), details.getUsername(), newPassword, details.getRole());
+        }
+        return loadUserByUsername(user.getUsername());
     }
 }
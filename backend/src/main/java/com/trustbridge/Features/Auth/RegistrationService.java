@@ -2,6 +2,7 @@ package com.trustbridge.Features.Auth;
 
 import com.trustbridge.Domain.Entities.Users;
 import com.trustbridge.Domain.Enums.UserRole.*;
+import com.trustbridge.Domain.Ids.UuidV7;
 import com.trustbridge.Domain.Repositories.UserRepository;
 import com.trustbridge.Features.Auth.Dto.RegistrationDTO;
 import com.trustbridge.Features.Jobs.Dto.JobCreationDto;
@@ -20,42 +21,38 @@ public class RegistrationService {
     @Transactional
     public void register(RegistrationDTO dto) {
 
-        if (userRepository.findByEmail(dto.email()).isPresent()) {
-            throw new RuntimeException("Email already in use");
-        }
-
+        // A guest taking up their invite is a full client from here on
+        role userRole = dto.role() == role.CLIENT_GUEST ? role.CLIENT : dto.role();
 
-        Users newUser = Users.builder()
-                .email(dto.email())
-                .password(passwordEncoder.encode(dto.password()))
-                .firstName(dto.firstName())
-                .lastName(dto.lastName())
-                .userRole(dto.role())
-                .build();
+        // The role ends up signed into the access token, so nobody gets to pick ADMIN for themselves
+        if (userRole != role.CLIENT && userRole != role.FREELANCER) {
+            throw new RoleNotAllowedException(dto.role());
+        }
 
-        userRepository.save(newUser);
+        // One statement decides it, so two sign-ups for the same email can't both get through
+        userRepository.upsertRegistered(
+                        UuidV7.next(),
+                        dto.email(),
+                        passwordEncoder.encode(dto.password()),
+                        dto.firstName(),
+                        dto.lastName(),
+                        userRole.name())
+                .orElseThrow(() -> new RuntimeException("Email already in use"));
     }
 
     public void ensureClientExists(String email, JobCreationDto dto) {
-        if (userRepository.findByEmail(email).isEmpty()) {
-            // This relies on your RegistrationService to handle the heavy lifting
-            createGuestUser(dto);
-        }
+        createGuestUser(dto);
     }
 
+    // Returns the existing user when the email is already known, guest or registered
     @Transactional
     public Users createGuestUser(JobCreationDto dto) {
-
-        Users newGuestUser = Users.builder()
-                .email(dto.clientEmail())
-                .phoneNumber(dto.clientPhoneNumber())
-                .firstName(dto.clientFirstName())
-                .lastName(dto.clientLastName())
-                .userRole(role.CLIENT_GUEST)
-                .build();
-
-        userRepository.save(newGuestUser);
-        return newGuestUser;
+        return userRepository.upsertGuest(
+                UuidV7.next(),
+                dto.clientEmail(),
+                dto.clientPhoneNumber(),
+                dto.clientFirstName(),
+                dto.clientLastName());
     }
 
 }
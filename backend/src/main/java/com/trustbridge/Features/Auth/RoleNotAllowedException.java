@@ -0,0 +1,11 @@
+package com.trustbridge.Features.Auth;
+
+import com.trustbridge.Domain.Enums.UserRole.role;
+
+// Public sign-up only creates clients and freelancers; admins are provisioned out-of-band
+public class RoleNotAllowedException extends RuntimeException {
+
+    public RoleNotAllowedException(role role) {
+        super("Cannot register as " + role);
+    }
+}
@@ -0,0 +1,27 @@
+package com.trustbridge.Features.Auth;
+
+import com.trustbridge.Domain.Enums.UserRole.role;
+import lombok.Getter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+import java.util.UUID;
+
+// Keeps the user id and role next to the credentials so login can issue tokens without a second lookup
+@Getter
+public class TrustBridgeUserDetails extends User {
+
+    private final UUID id;
+    private final role role;
+
+    public TrustBridgeUserDetails(UUID id, String email, String password, role role) {
+        super(email, password, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        this.id = id;
+        this.role = role;
+    }
+
+    public TrustBridgeUserDetails copy() {
+        return new TrustBridgeUserDetails(id, getUsername(), getPassword(), role);
+    }
+}
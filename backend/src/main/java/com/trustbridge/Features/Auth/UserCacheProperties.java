@@ -0,0 +1,19 @@
+package com.trustbridge.Features.Auth;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "trustbridge.auth.user-cache")
+public class UserCacheProperties {
+
+    // Users kept in memory for login, least recently used are dropped first
+    private long maxSize = 10_000;
+
+    // Kept short: a role change made outside the app is picked up by the next login after this
+    private Duration ttl = Duration.ofSeconds(30);
+}
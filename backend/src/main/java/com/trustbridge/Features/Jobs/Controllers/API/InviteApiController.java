@@ -1,49 +1,64 @@
 package com.trustbridge.Features.Jobs.Controllers.API;
 
-import com.trustbridge.Domain.Entities.Jobs;
-import com.trustbridge.Domain.Entities.Users;
-import com.trustbridge.Domain.Enums.UserRole.role;
-import com.trustbridge.Domain.Repositories.JobRepository;
+import com.trustbridge.Common.Web.ETags;
+import com.trustbridge.Common.Web.SerializedResponses;
+import com.trustbridge.Domain.Projections.InviteProjection;
+import com.trustbridge.Domain.Projections.InviteVersion;
 import com.trustbridge.Features.Jobs.Dto.InviteResponseDto;
+import com.trustbridge.Features.Jobs.Service.InviteQueryService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/invite")
 public class InviteApiController {
 
-    private final JobRepository jobRepository;
+    private final InviteQueryService inviteQueryService;
+    private final SerializedResponses serializedResponses;
 
-    public InviteApiController(JobRepository jobRepository) {
-        this.jobRepository = jobRepository;
+    public InviteApiController(InviteQueryService inviteQueryService, SerializedResponses serializedResponses) {
+        this.inviteQueryService = inviteQueryService;
+        this.serializedResponses = serializedResponses;
     }
 
-    @GetMapping("/{token}")
-    public ResponseEntity<InviteResponseDto> getInviteDetails(@PathVariable String token) {
-        Jobs job = jobRepository.findByInviteToken(token)
+    // Revalidated on every view (no-cache); an unchanged invite is answered 304 from the version query alone,
+    // and a client without it gets the bytes serialised for that version if we still have them
+    @GetMapping(value = "/{token}", produces = "application/json")
+    public ResponseEntity<byte[]> getInviteDetails(@PathVariable String token, WebRequest request) {
+        InviteVersion version = inviteQueryService.findVersionByToken(token)
                 .orElseThrow(() -> new RuntimeException("Invalid token"));
 
-        Users client = job.getClient();
+        if (request.checkNotModified(ETags.weak(version.jobId(), version.jobUpdatedAt(),
+                version.freelancerUpdatedAt(), version.clientUpdatedAt()))) {
+            return null;
+        }
 
-        String status = (client != null && client.getUserRole() != role.CLIENT_GUEST)
+        return SerializedResponses.ok(serializedResponses.write(InviteResponseDto.class, version,
+                () -> inviteDetails(token, version)));
+    }
+
+    private InviteResponseDto inviteDetails(String token, InviteVersion version) {
+        InviteProjection invite = inviteQueryService.findByToken(token, version)
+                .orElseThrow(() -> new RuntimeException("Invalid token"));
+
+        String status = invite.hasRegisteredClient()
                 ? "EXISTING"
                 : "NEW";
 
-        InviteResponseDto response = new InviteResponseDto(
-                job.getTitle(),
-                job.getDescription(),
-                job.getFreelancer().getFirstName() + " " + job.getFreelancer().getLastName(),
-                job.getFreelancer().getEmail(),
-                job.getTotalAmount(),
-                job.getCurrency(),
-                job.getClient().getEmail(),
+        return new InviteResponseDto(
+                invite.title(),
+                invite.description(),
+                invite.freelancerName(),
+                invite.freelancerEmail(),
+                invite.amount(),
+                invite.currency(),
+                invite.clientEmail(),
                 status
         );
-
-        return ResponseEntity.ok(response);
     }
 
 }
@@ -1,18 +1,26 @@
 package com.trustbridge.Features.Jobs.Controllers.API;
 
 import ch.qos.logback.core.model.Model;
-import com.trustbridge.Domain.Entities.Jobs;
-import com.trustbridge.Domain.Entities.Users;
-import com.trustbridge.Domain.Enums.UserRole.role;
+import com.trustbridge.Common.Web.ETags;
+import com.trustbridge.Common.Web.SerializedResponses;
+import com.trustbridge.Config.Security.AuthenticatedUser;
+import com.trustbridge.Domain.Enums.JobStatus.jobStatus;
+import com.trustbridge.Domain.Projections.InviteProjection;
+import com.trustbridge.Domain.Projections.JobListingVersion;
 import com.trustbridge.Domain.Repositories.JobRepository;
+import com.trustbridge.Features.Jobs.Dto.InviteLinkResponseDto;
 import com.trustbridge.Features.Jobs.Dto.JobCreationDto;
+import com.trustbridge.Features.Jobs.Dto.JobPageDto;
+import com.trustbridge.Features.Jobs.Service.InviteQueryService;
+import com.trustbridge.Features.Jobs.Service.JobQueryService;
 import com.trustbridge.Features.Jobs.Service.JobService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -21,10 +29,59 @@ public class JobApiController {
 
     JobRepository jobRepository;
     JobService jobService;
+    InviteQueryService inviteQueryService;
+    JobQueryService jobQueryService;
+    SerializedResponses serializedResponses;
 
-    JobApiController(JobRepository jobRepository,  JobService jobService) {
+    // Everything a listing page depends on; the bytes for it are kept under this
+    private record PageKey(UUID userId, JobListingVersion version, jobStatus status, String cursor, Integer size) { }
+
+    JobApiController(JobRepository jobRepository,  JobService jobService, InviteQueryService inviteQueryService,
+                     JobQueryService jobQueryService, SerializedResponses serializedResponses) {
         this.jobRepository = jobRepository;
         this.jobService = jobService;
+        this.inviteQueryService = inviteQueryService;
+        this.jobQueryService = jobQueryService;
+        this.serializedResponses = serializedResponses;
+    }
+
+    // Only the party itself may list its jobs. Listings are revalidated with a count + max(updated_at) query before any page is loaded
+    @GetMapping(value = "/freelancer/{freelancerId}", produces = "application/json")
+    public ResponseEntity<byte[]> freelancerJobs(@PathVariable UUID freelancerId,
+                                                     @RequestParam(required = false) jobStatus status,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(required = false) Integer size,
+                                                     @AuthenticationPrincipal AuthenticatedUser user,
+                                                     WebRequest request) {
+        if (!user.id().equals(freelancerId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        JobListingVersion version = jobQueryService.freelancerListingVersion(freelancerId);
+        if (request.checkNotModified(listingETag(freelancerId, version))) {
+            return null;
+        }
+        return SerializedResponses.ok(serializedResponses.write(JobPageDto.class,
+                new PageKey(freelancerId, version, status, cursor, size),
+                () -> jobQueryService.freelancerJobs(freelancerId, status, cursor, size)));
+    }
+
+    @GetMapping(value = "/client/{clientId}", produces = "application/json")
+    public ResponseEntity<byte[]> clientJobs(@PathVariable UUID clientId,
+                                                 @RequestParam(required = false) jobStatus status,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(required = false) Integer size,
+                                                 @AuthenticationPrincipal AuthenticatedUser user,
+                                                 WebRequest request) {
+        if (!user.id().equals(clientId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        JobListingVersion version = jobQueryService.clientListingVersion(clientId);
+        if (request.checkNotModified(listingETag(clientId, version))) {
+            return null;
+        }
+        return SerializedResponses.ok(serializedResponses.write(JobPageDto.class,
+                new PageKey(clientId, version, status, cursor, size),
+                () -> jobQueryService.clientJobs(clientId, status, cursor, size)));
     }
 
     @PostMapping("/creation")
@@ -34,45 +91,46 @@ public class JobApiController {
     }
 
     @PostMapping("/invite/{token}")
-    public ResponseEntity<?> handleInviteLink(@PathVariable String token, Model model) {
-        Jobs job = jobRepository.findByInviteToken(token)
+    public ResponseEntity<InviteLinkResponseDto> handleInviteLink(@PathVariable String token, Model model) {
+        InviteProjection invite = inviteQueryService.findByToken(token)
                 .orElseThrow(() -> new RuntimeException("Invalid Token"));
 
-        Users client = job.getClient();
-
-        Map<String, Object> response = new HashMap<>();
-        response.put("token", token);
-        response.put("jobTitle", job.getTitle());
-        response.put("jobDescription", job.getDescription());
-        response.put("freelancerName", job.getFreelancer().getFirstName() + " " +  job.getFreelancer().getLastName());
-
-        if (client != null && client.getUserRole() != role.CLIENT_GUEST) {
-            response.put("status", "EXISTING_USER");
-            response.put("email", client.getEmail());
-            // TODO:
-        } else {
-            response.put("status", "INVITED");
-            response.put("email", client != null ? client.getEmail() : null);
-        }
+        // TODO: existing users
+        String status = invite.hasRegisteredClient()
+                ? "EXISTING_USER"
+                : "INVITED";
+
+        InviteLinkResponseDto response = new InviteLinkResponseDto(
+                token,
+                invite.title(),
+                invite.description(),
+                invite.freelancerName(),
+                status,
+                invite.clientEmail()
+        );
 
         return ResponseEntity.ok(response);
     }
 
     @PostMapping("/status/cancelled/{jobId}")
-    public ResponseEntity<?> ChangeStatusToCancelled(@PathVariable String jobId) {
+    public ResponseEntity<String> ChangeStatusToCancelled(@PathVariable String jobId) {
         jobService.jobStatusToCancelled(UUID.fromString(jobId));
         return ResponseEntity.ok("Job cancelled successfully!");
     }
 
     @PostMapping("/status/pending/{jobId}")
-    public ResponseEntity<?> ChangeStatusToPending(@PathVariable String jobId) {
+    public ResponseEntity<String> ChangeStatusToPending(@PathVariable String jobId) {
         jobService.jobStatusToPendingAccepted(UUID.fromString(jobId));
         return ResponseEntity.ok("Job pending successfully!");
     }
 
     @PostMapping("/status/Active/{jobId}")
-    public ResponseEntity<?> ChangeStatusToActive(@PathVariable String jobId) {
+    public ResponseEntity<String> ChangeStatusToActive(@PathVariable String jobId) {
         jobService.jobStatusToActive(UUID.fromString(jobId));
         return ResponseEntity.ok("Job active successfully!");
     }
+
+    private static String listingETag(UUID userId, JobListingVersion version) {
+        return ETags.weak(userId, version.jobs(), version.lastUpdatedAt());
+    }
 }
@@ -0,0 +1,83 @@
+package com.trustbridge.Features.Jobs.Controllers.API;
+
+import com.trustbridge.Config.Security.AuthenticatedUser;
+import com.trustbridge.Config.Security.TokenService;
+import com.trustbridge.Config.Security.TokenType;
+import com.trustbridge.Features.Jobs.Dto.StreamTokenResponseDto;
+import com.trustbridge.Features.Jobs.Service.JobEventStream;
+import com.trustbridge.Features.Jobs.Service.JobQueryService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/job")
+public class JobEventsApiController {
+
+    // Seconds a client turned away from a full node waits before reconnecting
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final JobEventStream jobEventStream;
+    private final JobQueryService jobQueryService;
+    private final TokenService tokenService;
+
+    public JobEventsApiController(JobEventStream jobEventStream, JobQueryService jobQueryService,
+                                  TokenService tokenService) {
+        this.jobEventStream = jobEventStream;
+        this.jobQueryService = jobQueryService;
+        this.tokenService = tokenService;
+    }
+
+    /**
+     * A browser EventSource can't send the Authorization header, so it first fetches a stream token
+     * here (with the bearer access token as usual) and opens
+     * new EventSource("/api/job/{jobId}/events?token=...").
+     */
+    @PostMapping("/{jobId}/events/token")
+    public ResponseEntity<StreamTokenResponseDto> streamToken(@PathVariable UUID jobId,
+                                                              @AuthenticationPrincipal AuthenticatedUser user) {
+        if (!jobQueryService.isParty(jobId, user.id())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        String token = tokenService.issue(user.id(), user.email(), user.role(), TokenType.STREAM);
+        return ResponseEntity.ok(new StreamTokenResponseDto(token, tokenService.streamTtlSeconds()));
+    }
+
+    /**
+     * Live status changes of the job and its milestones and payments. Authenticated with either the
+     * bearer access token or a ?token= from POST /{jobId}/events/token, which is only checked on connect.
+     * An EventSource resends Last-Event-ID when it reconnects, but once its stream token has expired the
+     * retry gets a 401 and it gives up. The client then fetches a new token and opens a new EventSource,
+     * which can't set that header, so it passes ?lastEventId= instead.
+     * Only the job's freelancer and client may subscribe; anyone else, or an unknown job, is a 403.
+     */
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> jobEvents(@PathVariable UUID jobId,
+                                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                                @RequestParam(value = "lastEventId", required = false) String lastEventIdParam,
+                                                @AuthenticationPrincipal AuthenticatedUser user) {
+        if (!jobQueryService.isParty(jobId, user.id())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return jobEventStream.subscribe(jobId, lastEventId != null ? lastEventId : lastEventIdParam)
+                .map(emitter -> ResponseEntity.ok()
+                        .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                        .header("X-Accel-Buffering", "no")
+                        .body(emitter))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .build());
+    }
+}
@@ -0,0 +1,14 @@
+package com.trustbridge.Features.Jobs.Dto;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+// status is EXISTING_USER when the client has already signed up, otherwise INVITED
+public record InviteLinkResponseDto(
+    @NotNull String token,
+    @NotNull String jobTitle,
+    @NotNull String jobDescription,
+    @NotNull String freelancerName,
+    @NotNull String status,
+    @Nullable String email
+) { }
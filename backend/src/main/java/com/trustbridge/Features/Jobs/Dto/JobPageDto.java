@@ -0,0 +1,11 @@
+package com.trustbridge.Features.Jobs.Dto;
+
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+// nextCursor is null on the last page, otherwise pass it back as ?cursor= to get the next one
+public record JobPageDto(
+        List<JobSummaryDto> jobs,
+        @Nullable String nextCursor
+) { }
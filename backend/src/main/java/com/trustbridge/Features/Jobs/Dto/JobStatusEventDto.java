@@ -0,0 +1,13 @@
+package com.trustbridge.Features.Jobs.Dto;
+
+import java.util.UUID;
+
+// Data of a "transition" event on /api/job/{jobId}/events
+public record JobStatusEventDto(
+        String entityType,
+        UUID entityId,
+        String from,
+        String to,
+        String event,
+        String occurredAt
+) { }
@@ -0,0 +1,16 @@
+package com.trustbridge.Features.Jobs.Dto;
+
+import com.trustbridge.Domain.Enums.JobStatus.jobStatus;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record JobSummaryDto(
+        UUID id,
+        String title,
+        jobStatus status,
+        BigDecimal amount,
+        String currency,
+        OffsetDateTime createdAt
+) { }
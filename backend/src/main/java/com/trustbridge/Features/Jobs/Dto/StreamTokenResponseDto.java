@@ -0,0 +1,7 @@
+package com.trustbridge.Features.Jobs.Dto;
+
+// Passed as ?token= when opening GET /api/job/{jobId}/events; expiresIn is in seconds
+public record StreamTokenResponseDto(
+        String token,
+        long expiresIn
+) { }
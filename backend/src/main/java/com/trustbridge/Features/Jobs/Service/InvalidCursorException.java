@@ -0,0 +1,9 @@
+package com.trustbridge.Features.Jobs.Service;
+
+// A listing cursor that was not produced by JobQueryService (tampered with or truncated)
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,43 @@
+package com.trustbridge.Features.Jobs.Service;
+
+import com.trustbridge.Common.Events.BackpressurePolicy;
+import com.trustbridge.Common.Events.DomainEventHandler;
+import com.trustbridge.Common.Events.TransitionEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Drops a job's cached invite page once a status change of that job has committed, whether the
+ * state machine or JobService made it. BLOCK so publishers wait for a slow eviction rather than
+ * skip it; only past trustbridge.events.max-publish-wait is one lost (trustbridge.events.overrun),
+ * and that invite keeps its old status until the TTL.
+ */
+@Component
+public class InviteCacheEvictionHandler implements DomainEventHandler {
+
+    private final InviteQueryService inviteQueryService;
+
+    public InviteCacheEvictionHandler(InviteQueryService inviteQueryService) {
+        this.inviteQueryService = inviteQueryService;
+    }
+
+    @Override
+    public String name() {
+        return "invite-cache";
+    }
+
+    @Override
+    public BackpressurePolicy backpressure() {
+        return BackpressurePolicy.BLOCK;
+    }
+
+    @Override
+    public void onEvents(List<TransitionEvent> events) {
+        for (TransitionEvent event : events) {
+            if (event.entityType().equals("job")) {
+                inviteQueryService.invalidateJob(event.entityId());
+            }
+        }
+    }
+}
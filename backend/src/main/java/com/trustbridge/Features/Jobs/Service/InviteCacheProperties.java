@@ -0,0 +1,19 @@
+package com.trustbridge.Features.Jobs.Service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "trustbridge.invite-cache")
+public class InviteCacheProperties {
+
+    // Invite tokens kept in memory, least recently used are dropped first
+    private long maxSize = 10_000;
+
+    // Upper bound on staleness for changes that don't go through the job state machine
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,104 @@
+package com.trustbridge.Features.Jobs.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.trustbridge.Domain.Projections.InviteProjection;
+import com.trustbridge.Domain.Projections.InviteVersion;
+import com.trustbridge.Domain.Repositories.JobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-through cache of invite pages keyed by invite token.
+ * Unknown tokens are not cached, so a bad link always hits the database.
+ * Entries are dropped when the job changes status (see JobStateChangeInterceptor),
+ * and otherwise expire after the configured TTL.
+ */
+@Service
+public class InviteQueryService {
+
+    private final JobRepository jobRepository;
+    private final Cache<String, InviteProjection> invitesByToken;
+
+    // Reverse index so a status change on a job can find its cached token
+    private final Map<UUID, String> tokensByJobId = new ConcurrentHashMap<>();
+
+    public InviteQueryService(JobRepository jobRepository, InviteCacheProperties properties, MeterRegistry meterRegistry) {
+        this.jobRepository = jobRepository;
+        this.invitesByToken = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .evictionListener((String token, InviteProjection invite, RemovalCause cause) -> {
+                    if (invite != null) {
+                        tokensByJobId.remove(invite.jobId(), token);
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, invitesByToken, "invites");
+    }
+
+    public Optional<InviteProjection> findByToken(String token) {
+        return Optional.ofNullable(invitesByToken.get(token, this::load));
+    }
+
+    /**
+     * The cached invite if it was built from the given version, otherwise a fresh one.
+     * Guest sign-ups and profile edits don't evict the cache, the version check catches those.
+     */
+    public Optional<InviteProjection> findByToken(String token, InviteVersion version) {
+        InviteProjection cached = invitesByToken.getIfPresent(token);
+        if (cached != null && !cached.version().equals(version)) {
+            invitesByToken.invalidate(token);
+        }
+        return findByToken(token);
+    }
+
+    // One small query, no entities, so a 304 costs almost nothing. Never cached
+    public Optional<InviteVersion> findVersionByToken(String token) {
+        return jobRepository.findInviteVersionByToken(token);
+    }
+
+    /**
+     * Drops the job's cached invite. When called inside a transaction it is dropped again after
+     * commit, so a request that read the old row before the commit can't leave it cached.
+     */
+    public void invalidateJob(UUID jobId) {
+        evict(jobId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(jobId);
+                }
+            });
+        }
+    }
+
+    private InviteProjection load(String token) {
+        InviteProjection invite = jobRepository.findInviteByToken(token).orElse(null);
+
+        if (invite != null) {
+            tokensByJobId.put(invite.jobId(), token);
+        }
+        return invite;
+    }
+
+    private void evict(UUID jobId) {
+        String token = tokensByJobId.remove(jobId);
+        if (token != null) {
+            invitesByToken.invalidate(token);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.trustbridge.Features.Jobs.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * The last few thousand events this node streamed, indexed by sequence, so a reconnecting client
+ * can be sent what it missed. Written only by the JobEventStream handler thread, read by any
+ * request thread. Entries don't need to know their job: that is only resolved for a replay.
+ */
+public final class JobEventReplay {
+
+    public record Entry(long sequence, String entityType, UUID entityId, UUID jobId, String data) { }
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+    private volatile long latest = -1;
+
+    public JobEventReplay(int size) {
+        int capacity = Integer.highestOneBit(Math.max(2, size - 1)) << 1;
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    public void append(Entry entry) {
+        entries.set((int) (entry.sequence() & mask), entry);
+        latest = entry.sequence();
+    }
+
+    public long latest() {
+        return latest;
+    }
+
+    /**
+     * Everything for jobId after lastSeen, oldest first. Empty when the gap is no longer
+     * (or never was) in the window, in which case the client has to refetch instead.
+     */
+    public Optional<List<Entry>> since(long lastSeen, UUID jobId, Function<Entry, UUID> jobIdOf) {
+        long upTo = latest;
+        if (lastSeen > upTo || upTo - lastSeen > entries.length()) {
+            return Optional.empty();
+        }
+
+        List<Entry> missed = new ArrayList<>();
+        for (long sequence = lastSeen + 1; sequence <= upTo; sequence++) {
+            Entry entry = entries.get((int) (sequence & mask));
+            if (entry == null || entry.sequence() != sequence) {
+                return Optional.empty();
+            }
+            UUID entryJobId = entry.jobId() != null ? entry.jobId() : jobIdOf.apply(entry);
+            if (jobId.equals(entryJobId)) {
+                missed.add(entry);
+            }
+        }
+        return Optional.of(missed);
+    }
+}
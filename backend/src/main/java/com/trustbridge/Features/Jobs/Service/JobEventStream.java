@@ -0,0 +1,217 @@
+package com.trustbridge.Features.Jobs.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trustbridge.Common.Events.DomainEventHandler;
+import com.trustbridge.Common.Events.TransitionEvent;
+import com.trustbridge.Domain.Repositories.MilestoneRepository;
+import com.trustbridge.Domain.Repositories.PaymentRequestRepository;
+import com.trustbridge.Features.Jobs.Dto.JobStatusEventDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans committed job, milestone and payment status changes out to the SSE streams of their job.
+ * Runs as a DomainEventHandler, so it only ever sees committed changes and a slow client can't
+ * hold up a transaction: each event is serialised once, kept in a small replay window, and
+ * offered to each subscriber's bounded queue without blocking.
+ * Event ids are "node:sequence"; a Last-Event-ID from this node that is still in the window is
+ * resumed, anything else gets a "resync" event and the client refetches the job.
+ * An event that can't be serialised is skipped and counted, so it can't fail the rest of the batch.
+ */
+@Component
+public class JobEventStream implements DomainEventHandler {
+
+    private static final ObjectWriter EVENT_WRITER = new ObjectMapper().writerFor(JobStatusEventDto.class);
+
+    // Ids from another node (or from before a restart) can't be resumed here
+    private final String nodeId = Long.toHexString(ThreadLocalRandom.current().nextLong() >>> 16);
+
+    private final JobEventStreamProperties properties;
+    private final MilestoneRepository milestoneRepository;
+    private final PaymentRequestRepository paymentRequestRepository;
+
+    private final Map<UUID, Set<JobEventSubscriber>> subscribersByJob = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final JobEventReplay replay;
+
+    // Milestone and payment ids to their job, they never move between jobs
+    private final Cache<UUID, UUID> jobIds;
+
+    // Writes block on the client socket, so each drain gets a virtual thread rather than a pool slot
+    private final SimpleAsyncTaskExecutor writers = new SimpleAsyncTaskExecutor("job-events-");
+
+    private final Counter rejectedCounter;
+    private final Counter overflowCounter;
+    private final Counter unserialisableCounter;
+
+    // Only touched by the handler thread
+    private long sequence = -1;
+
+    public JobEventStream(JobEventStreamProperties properties,
+                          MilestoneRepository milestoneRepository,
+                          PaymentRequestRepository paymentRequestRepository,
+                          MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.milestoneRepository = milestoneRepository;
+        this.paymentRequestRepository = paymentRequestRepository;
+        this.replay = new JobEventReplay(properties.getReplaySize());
+        this.jobIds = Caffeine.newBuilder()
+                .maximumSize(properties.getJobIdCacheSize())
+                .build();
+        this.writers.setVirtualThreads(true);
+
+        Gauge.builder("trustbridge.sse.connections", connections, AtomicInteger::get)
+                .description("Open job event streams on this node")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("trustbridge.sse.rejected")
+                .description("Subscribes turned away because the node was at max connections")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("trustbridge.sse.overflow")
+                .description("Subscribers disconnected with resync because their queue filled up")
+                .register(meterRegistry);
+        this.unserialisableCounter = Counter.builder("trustbridge.sse.unserialisable")
+                .description("Status changes skipped because they could not be serialised")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String name() {
+        return "job-events";
+    }
+
+    @Override
+    public void onEvents(List<TransitionEvent> events) {
+        for (TransitionEvent event : events) {
+            Optional<String> data = serialise(event);
+            if (data.isEmpty()) {
+                unserialisableCounter.increment();
+                continue;
+            }
+            JobEventReplay.Entry entry = new JobEventReplay.Entry(++sequence, event.entityType(), event.entityId(),
+                    event.entityType().equals("job") ? event.entityId() : null, data.get());
+            replay.append(entry);
+
+            // Appended first so a subscriber that registers now either replays it or is offered it below
+            if (subscribersByJob.isEmpty()) {
+                continue;
+            }
+            UUID jobId = jobIdOf(entry);
+            Set<JobEventSubscriber> subscribers = jobId != null ? subscribersByJob.get(jobId) : null;
+            if (subscribers != null) {
+                subscribers.forEach(subscriber -> subscriber.offer(entry));
+            }
+        }
+    }
+
+    /**
+     * Opens a stream for the job, resuming after lastEventId when it can.
+     * Empty when this node already has max-connections streams open.
+     */
+    public Optional<SseEmitter> subscribe(UUID jobId, String lastEventId) {
+        if (connections.incrementAndGet() > properties.getMaxConnections()) {
+            connections.decrementAndGet();
+            rejectedCounter.increment();
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        JobEventSubscriber subscriber = new JobEventSubscriber(jobId, emitter, nodeId,
+                properties.getSubscriberBuffer(), writers, this::unsubscribe, overflowCounter::increment);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        subscribersByJob.computeIfAbsent(jobId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        long upTo = replay.latest();
+        if (lastEventId == null || lastEventId.isBlank()) {
+            subscriber.start(upTo, List.of(), false);
+            return Optional.of(emitter);
+        }
+
+        Optional<List<JobEventReplay.Entry>> missed = parseSequence(lastEventId)
+                .flatMap(lastSeen -> replay.since(lastSeen, jobId, this::jobIdOf))
+                .map(entries -> entries.stream().filter(entry -> entry.sequence() <= upTo).toList());
+        subscriber.start(upTo, missed.orElse(List.of()), missed.isEmpty());
+        return Optional.of(emitter);
+    }
+
+    @Scheduled(fixedDelayString = "${trustbridge.job-events.heartbeat-interval:15s}")
+    public void heartbeat() {
+        subscribersByJob.values().forEach(subscribers -> subscribers.forEach(JobEventSubscriber::heartbeat));
+    }
+
+    public int connections() {
+        return connections.get();
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        subscribersByJob.values().forEach(subscribers -> subscribers.forEach(JobEventSubscriber::close));
+    }
+
+    private void unsubscribe(JobEventSubscriber subscriber) {
+        subscribersByJob.computeIfPresent(subscriber.jobId(), (jobId, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        connections.decrementAndGet();
+    }
+
+    private Optional<Long> parseSequence(String lastEventId) {
+        int separator = lastEventId.indexOf(':');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(nodeId)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(lastEventId.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private UUID jobIdOf(JobEventReplay.Entry entry) {
+        if (entry.jobId() != null) {
+            return entry.jobId();
+        }
+        return switch (entry.entityType()) {
+            case "milestone" -> jobIds.get(entry.entityId(), id -> milestoneRepository.findJobIdById(id).orElse(null));
+            case "payment" -> jobIds.get(entry.entityId(), id -> paymentRequestRepository.findJobIdById(id).orElse(null));
+            default -> null;
+        };
+    }
+
+    // Runs on the event bus consumer thread, so a failure here must not throw
+    private static Optional<String> serialise(TransitionEvent event) {
+        try {
+            return Optional.of(EVENT_WRITER.writeValueAsString(new JobStatusEventDto(
+                    event.entityType(),
+                    event.entityId(),
+                    event.from() != null ? event.from().name() : null,
+                    event.to() != null ? event.to().name() : null,
+                    event.event() != null ? event.event().name() : null,
+                    event.occurredAt().toString())));
+        } catch (JsonProcessingException e) {
+            return Optional.empty();
+        }
+    }
+}
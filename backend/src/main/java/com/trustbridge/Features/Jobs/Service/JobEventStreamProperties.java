@@ -0,0 +1,31 @@
+package com.trustbridge.Features.Jobs.Service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "trustbridge.job-events")
+public class JobEventStreamProperties {
+
+    // Open streams per node; past this new subscribers get a 503 and retry elsewhere
+    private int maxConnections = 10000;
+
+    // Events queued for one slow subscriber before it is sent "resync" and disconnected
+    private int subscriberBuffer = 32;
+
+    // Comment line sent to every stream so proxies don't close idle connections
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    // Recent events kept for Last-Event-ID resume, rounded up to a power of two
+    private int replaySize = 4096;
+
+    // Streams are closed after this long; the client reconnects and resumes from its last event id
+    private Duration timeout = Duration.ofMinutes(30);
+
+    // Milestone/payment -> job ids remembered for routing, they never change
+    private int jobIdCacheSize = 10000;
+}
@@ -0,0 +1,167 @@
+package com.trustbridge.Features.Jobs.Service;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * One open stream. Live events are offered without blocking into a small bounded queue and
+ * written to the emitter by at most one writer task at a time, so a slow client only ever
+ * holds up its own writes. When the queue overflows the writer sends "resync" and closes it.
+ * Idle it is this object, an empty queue and the emitter, no thread.
+ */
+final class JobEventSubscriber {
+
+    static final String TRANSITION_EVENT = "transition";
+    static final String RESYNC_EVENT = "resync";
+
+    private static final JobEventReplay.Entry HEARTBEAT = new JobEventReplay.Entry(-1, null, null, null, null);
+
+    private final UUID jobId;
+    private final SseEmitter emitter;
+    private final String nodeId;
+    private final int bufferSize;
+    private final Executor writers;
+    private final Consumer<JobEventSubscriber> onClose;
+    private final Runnable onOverflow;
+
+    private final Queue<JobEventReplay.Entry> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean writing = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+
+    // Held back until any replay has been sent, see start
+    private volatile boolean started;
+
+    // Only touched by the single writer task (or by start before any writer can run)
+    private long lastSent;
+
+    JobEventSubscriber(UUID jobId, SseEmitter emitter, String nodeId, int bufferSize, Executor writers,
+                       Consumer<JobEventSubscriber> onClose, Runnable onOverflow) {
+        this.jobId = jobId;
+        this.emitter = emitter;
+        this.nodeId = nodeId;
+        this.bufferSize = bufferSize;
+        this.writers = writers;
+        this.onClose = onClose;
+        this.onOverflow = onOverflow;
+    }
+
+    UUID jobId() {
+        return jobId;
+    }
+
+    /**
+     * Sends the replay (or a resync when it couldn't be worked out), then lets live events through.
+     * Live events that arrived meanwhile and were already part of the replay are skipped.
+     */
+    void start(long replayedUpTo, List<JobEventReplay.Entry> replay, boolean resync) {
+        try {
+            if (resync) {
+                emitter.send(SseEmitter.event().name(RESYNC_EVENT).data("{}", MediaType.APPLICATION_JSON));
+            }
+            for (JobEventReplay.Entry entry : replay) {
+                send(entry);
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+            return;
+        }
+        lastSent = replayedUpTo;
+        started = true;
+        scheduleWrite();
+    }
+
+    void offer(JobEventReplay.Entry entry) {
+        if (closed.get()) {
+            return;
+        }
+        if (pendingCount.incrementAndGet() > bufferSize) {
+            if (overflowed.compareAndSet(false, true)) {
+                onOverflow.run();
+                scheduleWrite();
+            }
+            return;
+        }
+        pending.add(entry);
+        scheduleWrite();
+    }
+
+    void heartbeat() {
+        if (!closed.get() && pendingCount.get() == 0) {
+            pendingCount.incrementAndGet();
+            pending.add(HEARTBEAT);
+            scheduleWrite();
+        }
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            pending.clear();
+            onClose.accept(this);
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // Already completed by the container (timeout, client disconnect)
+            }
+        }
+    }
+
+    private void scheduleWrite() {
+        if (started && !closed.get() && writing.compareAndSet(false, true)) {
+            writers.execute(this::write);
+        }
+    }
+
+    private void write() {
+        do {
+            JobEventReplay.Entry entry;
+            while (!overflowed.get() && (entry = pending.poll()) != null) {
+                pendingCount.decrementAndGet();
+                try {
+                    if (entry == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else if (entry.sequence() > lastSent) {
+                        send(entry);
+                        lastSent = entry.sequence();
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // Client went away or the emitter already completed
+                    close();
+                    return;
+                }
+            }
+            if (overflowed.get()) {
+                resyncAndClose();
+                return;
+            }
+            writing.set(false);
+        } while ((!pending.isEmpty() || overflowed.get()) && !closed.get() && writing.compareAndSet(false, true));
+    }
+
+    private void resyncAndClose() {
+        try {
+            emitter.send(SseEmitter.event().name(RESYNC_EVENT).data("{}", MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException ignored) {
+            // Closing anyway
+        }
+        close();
+    }
+
+    private void send(JobEventReplay.Entry entry) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(nodeId + ":" + entry.sequence())
+                .name(TRANSITION_EVENT)
+                .data(entry.data(), MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,118 @@
+package com.trustbridge.Features.Jobs.Service;
+
+import com.trustbridge.Domain.Entities.Jobs;
+import com.trustbridge.Domain.Enums.JobStatus.jobStatus;
+import com.trustbridge.Domain.Projections.JobListingVersion;
+import com.trustbridge.Domain.Repositories.JobRepository;
+import com.trustbridge.Features.Jobs.Dto.JobPageDto;
+import com.trustbridge.Features.Jobs.Dto.JobSummaryDto;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Job listings for each party, newest first, paged by keyset on (created_at, id).
+ * The cursor is an opaque encoding of the last row's (created_at, id), so the next page
+ * starts right after it no matter how many jobs come before.
+ */
+@Service
+public class JobQueryService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    // Sorts after every real (created_at, id), used as the cursor of the first page
+    private static final OffsetDateTime FIRST_PAGE_CREATED_AT = OffsetDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final UUID FIRST_PAGE_ID = new UUID(-1L, -1L);
+
+    private final JobRepository jobRepository;
+
+    public JobQueryService(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    public JobPageDto freelancerJobs(UUID freelancerId, jobStatus status, String cursor, Integer size) {
+        return page(cursor, size, (createdAt, id, limit) -> status == null
+                ? jobRepository.findFreelancerPage(freelancerId, createdAt, id, limit)
+                : jobRepository.findFreelancerPageByStatus(freelancerId, status.name(), createdAt, id, limit));
+    }
+
+    public JobPageDto clientJobs(UUID clientId, jobStatus status, String cursor, Integer size) {
+        return page(cursor, size, (createdAt, id, limit) -> status == null
+                ? jobRepository.findClientPage(clientId, createdAt, id, limit)
+                : jobRepository.findClientPageByStatus(clientId, status.name(), createdAt, id, limit));
+    }
+
+    // The job's freelancer or client; false for a job that doesn't exist
+    public boolean isParty(UUID jobId, UUID userId) {
+        return jobRepository.isParty(jobId, userId);
+    }
+
+    // Same for every page, status filter and size of the party's listing; the URL tells those apart
+    public JobListingVersion freelancerListingVersion(UUID freelancerId) {
+        return jobRepository.findFreelancerListingVersion(freelancerId);
+    }
+
+    public JobListingVersion clientListingVersion(UUID clientId) {
+        return jobRepository.findClientListingVersion(clientId);
+    }
+
+    private interface PageQuery {
+        List<Jobs> fetch(OffsetDateTime createdAt, UUID id, int limit);
+    }
+
+    private JobPageDto page(String cursor, Integer size, PageQuery query) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        OffsetDateTime createdAt = FIRST_PAGE_CREATED_AT;
+        UUID id = FIRST_PAGE_ID;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            createdAt = OffsetDateTime.parse(position[0]);
+            id = UUID.fromString(position[1]);
+        }
+
+        // One extra row tells us whether there is a next page without a count query
+        List<Jobs> rows = query.fetch(createdAt, id, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<Jobs> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<JobSummaryDto> jobs = pageRows.stream()
+                .map(job -> new JobSummaryDto(
+                        job.getId(),
+                        job.getTitle(),
+                        job.getStatus(),
+                        job.getTotalAmount(),
+                        job.getCurrency(),
+                        job.getCreatedAt()))
+                .toList();
+
+        String nextCursor = hasMore ? encodeCursor(pageRows.getLast()) : null;
+        return new JobPageDto(jobs, nextCursor);
+    }
+
+    static String encodeCursor(Jobs last) {
+        String position = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (position.length != 2) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            OffsetDateTime.parse(position[0]);
+            UUID.fromString(position[1]);
+            return position;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+}
@@ -1,21 +1,26 @@
 package com.trustbridge.Features.Jobs.Service;
 
+import com.trustbridge.Common.Events.DomainEventBus;
+import com.trustbridge.Common.Events.TransitionEvent;
 import com.trustbridge.Domain.Entities.Jobs;
 import com.trustbridge.Domain.Entities.Users;
 import com.trustbridge.Domain.Enums.JobStatus.*;
 import com.trustbridge.Domain.Repositories.JobRepository;
 import com.trustbridge.Domain.Repositories.UserRepository;
+import com.trustbridge.Domain.Values.Money;
 import com.trustbridge.Features.Auth.RegistrationService;
 import com.trustbridge.Features.Jobs.Dto.JobCreationDto;
+import com.trustbridge.Features.Notifications.EmailService;
+import com.trustbridge.Features.Notifications.EmailTemplate;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.apache.commons.lang3.RandomStringUtils;
 
-import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -26,15 +31,17 @@ public class JobService {
     RegistrationService registrationService;
     EmailService emailService;
     MilestoneService milestoneService;
+    DomainEventBus domainEventBus;
 
     private final String BASE_URL = "https://localhost:8080/invite/";
 
-    public JobService(JobRepository jobRepository, UserRepository userRepository, RegistrationService registrationService,  EmailService emailService,  MilestoneService milestoneService) {
+    public JobService(JobRepository jobRepository, UserRepository userRepository, RegistrationService registrationService,  EmailService emailService,  MilestoneService milestoneService, DomainEventBus domainEventBus) {
         this.jobRepository = jobRepository;
         this.userRepository = userRepository;
         this.registrationService = registrationService;
         this.emailService = emailService;
         this.milestoneService = milestoneService;
+        this.domainEventBus = domainEventBus;
     }
 
     @Transactional
@@ -44,10 +51,8 @@ public class JobService {
 
         Users client = null;
         if (hasEmail(dto.clientEmail())) {
-            // Find existing OR create new guest
-            // NOTE: Ensure your RegistrationService.createGuestUser accepts the DTO or specific fields
-            client = userRepository.findByEmail(dto.clientEmail())
-                    .orElseGet(() -> registrationService.createGuestUser(dto));
+            // Finds the existing user OR creates a new guest in one upsert, so concurrent offers can't duplicate it
+            client = registrationService.createGuestUser(dto);
         }
 
 
@@ -140,33 +145,40 @@ public class JobService {
     @Transactional
     public void jobStatusToComplete(@Valid @RequestBody UUID jobId) {
         Jobs job = checkJobExists(jobId);
+        jobStatus from = job.getStatus();
 
         job.setStatus(jobStatus.PAID_OUT);
         jobRepository.save(job);
+        publishStatusChange(job, from);
     }
 
     @Transactional
     public void jobStatusToCancelled(@Valid @RequestBody UUID jobId) {
         Jobs job = checkJobExists(jobId);
+        jobStatus from = job.getStatus();
 
         job.setStatus(jobStatus.CANCELLED);
         jobRepository.save(job);
+        publishStatusChange(job, from);
     }
 
     @Transactional
     public void jobStatusToPendingAccepted(@Valid @RequestBody UUID jobId) {
         Jobs job = checkJobExists(jobId);
+        jobStatus from = job.getStatus();
 
         job.setStatus(jobStatus.PENDING_ACCEPTANCE);
         jobRepository.save(job);
+        publishStatusChange(job, from);
     }
 
     @Transactional
     public void jobStatusToActive(@Valid @RequestBody UUID jobId) {
         Jobs job = checkJobExists(jobId);
+        jobStatus from = job.getStatus();
 
         job.setStatus(jobStatus.IN_PROGRESS);
-
+        publishStatusChange(job, from);
     }
 
     /**
@@ -181,68 +193,17 @@ public class JobService {
         jobRepository.save(job);
     }*/
 
-    @Async
+    // Written to the email outbox in the job's transaction, EmailDispatcher sends it after commit
     private void sendNotificationEmail(JobCreationDto dto, String inviteLink) {
-        String body = buildEmailTemplate(dto, inviteLink);
-        emailService.send(dto.clientEmail(), "Project Proposal: " + dto.title(), body);
-        System.out.println("Automated email sent to: " + dto.clientEmail());
-    }
-
-    private String buildEmailTemplate(JobCreationDto dto, String inviteLink) {
-        String logoUrl = "https://github.com/c4meronMcc/TrustBridge/blob/jobcreation/assets/TrustBridgeLogo.png?raw=true";
-
-        return """
-            <html>
-            <body style="font-family: Arial, sans-serif; background-color: #f4f4f4; margin: 0; padding: 20px;">
-                <div style="max-width: 600px; margin: 0 auto; background-color: #ffffff; padding: 20px; border-radius: 8px; box-shadow: 0 2px 4px rgba(0,0,0,0.1);">
-                    
-                    <div style="text-align: center; padding-bottom: 20px;">
-                        <img src="%s" alt="Logo" height="25" style="height: 25px; width: auto; vertical-align: middle; display: inline-block; border: 0;">
-    
-                        <span style="font-family: 'Helvetica Neue', Arial, sans-serif; font-size: 26px; font-weight: 700; color: #333333; vertical-align: middle; display: inline-block; letter-spacing: -0.5px;">
-                            TrustBridge
-                        </span>
-                    </div>
-                    
-                    <hr style="border: 0; border-top: 1px solid #eeeeee; margin: 0 0 20px 0;">
-                    
-                    <h3 style="color: #2c3e50; margin-top: 0;">New Project Proposal</h3>
-                    <p style="color: #555555; font-size: 16px; line-height: 1.5;">
-                        Hi <strong>%s</strong>,
-                    </p>
-                    <p style="color: #555555; font-size: 16px; line-height: 1.5;">
-                        You have received a new proposal for the project <strong>"%s"</strong>.
-                    </p>
-                    
-                    <div style="background-color: #f9f9f9; padding: 15px; border-radius: 5px; margin: 20px 0;">
-                        <p style="margin: 5px 0; color: #333;"><strong>Description:</strong> %s</p>
-                        <p style="margin: 5px 0; color: #333;"><strong>Total Amount:</strong> %s %.2f</p>
-                    </div>
-
-                    <div style="text-align: center; margin: 30px 0;">
-                        <a href="%s" style="background-color: #007bff; color: #ffffff; padding: 12px 24px; text-decoration: none; border-radius: 5px; font-weight: bold; font-size: 16px; display: inline-block;">
-                            Review & Accept Proposal
-                        </a>
-                    </div>
-                    
-                    <p style="color: #999999; font-size: 12px; text-align: center; margin-top: 30px;">
-                        If the button above doesn't work, copy this link into your browser:<br>
-                        <a href="%s" style="color: #007bff; word-break: break-all;">%s</a>
-                    </p>
-                </div>
-            </body>
-            </html>
-            """.formatted(
-                logoUrl,
-                dto.clientFirstName() != null ? dto.clientFirstName() : "there",
-                dto.title(),
-                dto.description(),
-                dto.currency(),
-                dto.amount(),
-                inviteLink,
-                inviteLink,
-                inviteLink
-        );
+        emailService.queue(dto.clientEmail(), EmailTemplate.JOB_INVITE, Map.of(
+                "name", dto.clientFirstName() != null ? dto.clientFirstName() : "there",
+                "title", dto.title(),
+                "description", dto.description(),
+                "currency", dto.currency(),
+                "amount", dto.amount().setScale(2, RoundingMode.HALF_UP).toPlainString(),
+                "link", inviteLink,
+                "linkText", "Review & Accept Proposal"
+        ));
     }
 
     public String generateInviteToken() {
@@ -253,20 +214,19 @@ public class JobService {
         return email != null && !email.isBlank();
     }
 
+    // Compared in minor units, so 100.0 and 100.00 are the same total
     private boolean milestoneTotalValid(List<JobCreationDto.MilestoneCreationDto> milestones, JobCreationDto job) {
 
-        List<BigDecimal> milestonesAmounts = milestones.stream()
-                .map( milestone -> milestone.amount()).toList();
+        Money jobAmount = Money.of(job.amount(), job.currency());
+        Money milestoneTotal = Money.zero(job.currency());
 
-        BigDecimal milestoneTotal = BigDecimal.ZERO;
-
-        for(BigDecimal  milestone : milestonesAmounts) {
-            milestoneTotal = milestoneTotal.add(milestone);
+        for (JobCreationDto.MilestoneCreationDto milestone : milestones) {
+            milestoneTotal = milestoneTotal.plus(milestone.amount());
         }
 
-        if (!milestoneTotal.equals(job.amount())) {
+        if (milestoneTotal.compareTo(jobAmount) != 0) {
             System.out.println("Milestone total: " + milestoneTotal);
-            System.out.println("Job Amount: " + job.amount());
+            System.out.println("Job Amount: " + jobAmount);
             return false;
         }
         return true;
@@ -278,4 +238,10 @@ public class JobService {
 
         return job;
     }
+
+    // These set the status directly rather than through the state machine, so announce the change the
+    // same way its interceptor does: the invite cache, audit log and job stream only hear of it after commit
+    private void publishStatusChange(Jobs job, jobStatus from) {
+        domainEventBus.publishAfterCommit(TransitionEvent.of("job", job.getId(), from, job.getStatus(), null, Map.of()));
+    }
 }
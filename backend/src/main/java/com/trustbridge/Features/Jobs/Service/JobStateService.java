@@ -1,117 +1,147 @@
 package com.trustbridge.Features.Jobs.Service;
 
-import com.trustbridge.Domain.Entities.Jobs;
+import com.trustbridge.Common.StateMachine.TransitionEngine;
+import com.trustbridge.Common.StateMachine.TransitionEngineFactory;
+import com.trustbridge.Common.StateMachine.TransitionRequest;
+import com.trustbridge.Common.StateMachine.TransitionResult;
+import com.trustbridge.Domain.Projections.JobMilestoneFacts;
 import com.trustbridge.Domain.Repositories.JobRepository;
+import com.trustbridge.Domain.Repositories.MilestoneRepository;
 import com.trustbridge.Domain.Enums.JobStatus.*;
 import com.trustbridge.Domain.Enums.JobEvent.*;
 import com.trustbridge.Features.Jobs.StateMachine.Interceptors.JobStateChangeInterceptor;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
-import org.springframework.statemachine.StateMachine;
 import org.springframework.statemachine.config.StateMachineFactory;
-import org.springframework.statemachine.support.DefaultStateMachineContext;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 public class JobStateService {
 
     JobRepository jobRepository;
-
-    @Autowired
-    StateMachineFactory<jobStatus, jobEvent> stateMachineFactory;
-
-    @Autowired
-    JobStateChangeInterceptor jobInterceptor;
-
-    public JobStateService(JobRepository jobRepository) {
+    MilestoneRepository milestoneRepository;
+
+    // Events whose guards read JobMilestoneFacts; the rest don't pay for the aggregate query
+    private static final Set<jobEvent> MILESTONE_GUARDED = EnumSet.of(
+            jobEvent.FUNDS_DEPOSITED,
+            jobEvent.ALL_MILESTONES_COMPLETED,
+            jobEvent.JOB_APPROVED,
+            jobEvent.RELEASE_PAYMENT,
+            jobEvent.RAISE_DISPUTE,
+            jobEvent.RESOLVE_DISPUTE);
+
+    private final TransitionEngine<jobStatus, jobEvent> transitionEngine;
+
+    public JobStateService(JobRepository jobRepository,
+                           MilestoneRepository milestoneRepository,
+                           StateMachineFactory<jobStatus, jobEvent> stateMachineFactory,
+                           JobStateChangeInterceptor jobInterceptor,
+                           TransitionEngineFactory transitionEngineFactory) {
         this.jobRepository = jobRepository;
+        this.milestoneRepository = milestoneRepository;
+        this.transitionEngine = transitionEngineFactory.create("job", jobStatus.class, jobEvent.class,
+                stateMachineFactory, jobInterceptor);
     }
 
-    private StateMachine<jobStatus, jobEvent>  buildStateMachine(UUID jobId) {
-
-        Jobs job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found!"));
+    public TransitionResult<jobStatus> fireEvent(UUID jobId, jobEvent event) {
+        return fireEventAsync(jobId, event).block();
+    }
 
-        StateMachine<jobStatus, jobEvent> sm = stateMachineFactory.getStateMachine(jobId.toString());
+    public TransitionResult<jobStatus> fireEvent(UUID jobId, jobEvent event, Map<String, Object> headers) {
+        return fireEventAsync(jobId, event, headers).block();
+    }
 
-        sm.stopReactively().block();
+    public Mono<TransitionResult<jobStatus>> fireEventAsync(UUID jobId, jobEvent event) {
+        return fireEventAsync(jobId, event, Map.of());
+    }
 
-        sm.getStateMachineAccessor().doWithAllRegions(accessor -> {
+    /**
+     * Milestone-guarded events get the job's JobMilestoneFacts attached, loaded in one query,
+     * so the guards check the milestones as they are rather than flags the caller worked out.
+     */
+    public Mono<TransitionResult<jobStatus>> fireEventAsync(UUID jobId, jobEvent event, Map<String, Object> headers) {
+        return Mono.defer(() -> {
+            jobStatus currentStatus = jobRepository.findStatusById(jobId)
+                    .orElseThrow(() -> new RuntimeException("Job not found!"));
 
-            accessor.addStateMachineInterceptor(jobInterceptor);
+            MessageBuilder<jobEvent> builder = MessageBuilder
+                    .withPayload(event)
+                    .copyHeaders(headers)
+                    .setHeader("jobId", jobId);
 
-            accessor.resetStateMachineReactively(new DefaultStateMachineContext<>(
-                    job.getStatus(),null,null,null
-            )).block();
-        });
+            if (MILESTONE_GUARDED.contains(event)) {
+                builder.setHeader(JobMilestoneFacts.HEADER, milestoneRepository.findJobFacts(jobId));
+            }
 
-        sm.startReactively().block();
+            Message<jobEvent> message = builder.build();
 
-        return sm;
+            return transitionEngine.fire(jobId, currentStatus, message);
+        });
     }
 
-    public void fireEvent(UUID jobId, jobEvent event) {
-        StateMachine<jobStatus, jobEvent> sm = buildStateMachine(jobId);
-
-        Message<jobEvent> message = MessageBuilder
-                .withPayload(event)
-                .setHeader("jobId", jobId)
-                .build();
-
-        sm.sendEvent(Mono.just(message)).subscribe();
+    // Results come back in the same order as the requests
+    public List<TransitionResult<jobStatus>> fireEvents(List<TransitionRequest<jobEvent>> requests) {
+        return Flux.fromIterable(requests)
+                .concatMap(request -> fireEventAsync(request.entityId(), request.event()))
+                .collectList()
+                .block();
     }
 
     // UN-GUARDED STATE TRANSITIONS
-    public void draftToPending(UUID jobId) {
-        fireEvent(jobId, jobEvent.PUBLISH_OFFER);
+    public TransitionResult<jobStatus> draftToPending(UUID jobId) {
+        return fireEvent(jobId, jobEvent.PUBLISH_OFFER);
     }
 
-    public void draftToCancelled(UUID jobId) {
-        fireEvent(jobId, jobEvent.CANCEL_JOB);
+    public TransitionResult<jobStatus> draftToCancelled(UUID jobId) {
+        return fireEvent(jobId, jobEvent.CANCEL_JOB);
     }
 
-    public void pendingToCancelled(UUID jobId) {
-        fireEvent(jobId, jobEvent.CANCEL_JOB);
+    public TransitionResult<jobStatus> pendingToCancelled(UUID jobId) {
+        return fireEvent(jobId, jobEvent.CANCEL_JOB);
     }
 
-    public void pendingToActive(UUID jobId) {
-        fireEvent(jobId, jobEvent.ACCEPT_OFFER);
+    public TransitionResult<jobStatus> pendingToActive(UUID jobId) {
+        return fireEvent(jobId, jobEvent.ACCEPT_OFFER);
     }
 
-    public void submissionRevoked(UUID jobId) {
-        fireEvent(jobId, jobEvent.SUBMISSION_REVOKED);
+    public TransitionResult<jobStatus> submissionRevoked(UUID jobId) {
+        return fireEvent(jobId, jobEvent.SUBMISSION_REVOKED);
     }
 
     // GUARDED STATE TRANSITIONS
-    public void offerAccepted(UUID jobId) {
-        fireEvent(jobId, jobEvent.ACCEPT_OFFER);
+    public TransitionResult<jobStatus> offerAccepted(UUID jobId) {
+        return fireEvent(jobId, jobEvent.ACCEPT_OFFER);
     }
 
-    public void fundsDeposited(UUID jobId) {
-        fireEvent(jobId, jobEvent.FUNDS_DEPOSITED);
+    public TransitionResult<jobStatus> fundsDeposited(UUID jobId) {
+        return fireEvent(jobId, jobEvent.FUNDS_DEPOSITED);
     }
 
-    public void allMilestonesCompleted(UUID jobId) {
-        fireEvent(jobId, jobEvent.ALL_MILESTONES_COMPLETED);
+    public TransitionResult<jobStatus> allMilestonesCompleted(UUID jobId) {
+        return fireEvent(jobId, jobEvent.ALL_MILESTONES_COMPLETED);
     }
 
-    public void jobApproved(UUID jobId) {
-        fireEvent(jobId, jobEvent.JOB_APPROVED);
+    public TransitionResult<jobStatus> jobApproved(UUID jobId) {
+        return fireEvent(jobId, jobEvent.JOB_APPROVED);
     }
 
-    public void releasePayment(UUID jobId) {
-        fireEvent(jobId, jobEvent.RELEASE_PAYMENT);
+    public TransitionResult<jobStatus> releasePayment(UUID jobId) {
+        return fireEvent(jobId, jobEvent.RELEASE_PAYMENT);
     }
 
-    public void raiseDispute(UUID jobId) {
-        fireEvent(jobId, jobEvent.RAISE_DISPUTE);
+    public TransitionResult<jobStatus> raiseDispute(UUID jobId) {
+        return fireEvent(jobId, jobEvent.RAISE_DISPUTE);
     }
 
-    public void resolveDispute(UUID jobId) {
-        fireEvent(jobId, jobEvent.RESOLVE_DISPUTE);
+    public TransitionResult<jobStatus> resolveDispute(UUID jobId) {
+        return fireEvent(jobId, jobEvent.RESOLVE_DISPUTE);
     }
 }
\ No newline at end of file
@@ -1,109 +1,199 @@
 package com.trustbridge.Features.Jobs.Service;
 
+import com.trustbridge.Common.Events.DomainEventBus;
+import com.trustbridge.Common.Events.TransitionEvent;
+import com.trustbridge.Common.StateMachine.CompiledTransitionEngine;
+import com.trustbridge.Common.StateMachine.StaleTransitionException;
+import com.trustbridge.Common.StateMachine.TransitionEngine;
+import com.trustbridge.Common.StateMachine.TransitionEngineFactory;
+import com.trustbridge.Common.StateMachine.TransitionMetrics;
+import com.trustbridge.Common.StateMachine.TransitionRequest;
+import com.trustbridge.Common.StateMachine.TransitionResult;
 import com.trustbridge.Domain.Entities.Milestones;
 import com.trustbridge.Domain.Repositories.MilestoneRepository;
 import com.trustbridge.Features.Jobs.StateMachine.Interceptors.MilestoneStateChangeInterceptor;
-import org.springframework.beans.factory.annotation.Autowired;
+import jakarta.transaction.Transactional;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
-import org.springframework.statemachine.StateMachine;
 import org.springframework.statemachine.config.StateMachineFactory;
-import org.springframework.statemachine.support.DefaultStateMachineContext;
 import org.springframework.stereotype.Service;
 import com.trustbridge.Domain.Enums.MilestoneStatus.*;
 import com.trustbridge.Domain.Enums.MilestoneEvent.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 @Service
 public class MilestoneStateService {
 
     MilestoneRepository milestoneRepository;
 
-    @Autowired
-    StateMachineFactory<milestoneStatus, milestoneEvent> stateMachineFactory;
+    private final TransitionEngine<milestoneStatus, milestoneEvent> transitionEngine;
 
-    @Autowired
-    MilestoneStateChangeInterceptor milestoneInterceptor;
+    // Only used to work out targets for bulk transitions, it never runs the interceptor
+    private final CompiledTransitionEngine<milestoneStatus, milestoneEvent> bulkPlanner;
 
-    public MilestoneStateService(MilestoneRepository milestoneRepository) {
-        this.milestoneRepository = milestoneRepository;
-    }
-
-    private StateMachine<milestoneStatus, milestoneEvent> buildStateMachine(UUID milestoneId) {
+    private final TransitionMetrics transitionMetrics;
 
-        Milestones milestone = milestoneRepository.findById(milestoneId)
-                .orElseThrow(() -> new RuntimeException("Milestone not found!"));
+    private final DomainEventBus domainEventBus;
 
-        StateMachine<milestoneStatus, milestoneEvent> sm = stateMachineFactory.getStateMachine(milestoneId.toString());
+    public MilestoneStateService(MilestoneRepository milestoneRepository,
+                                 StateMachineFactory<milestoneStatus, milestoneEvent> stateMachineFactory,
+                                 MilestoneStateChangeInterceptor milestoneInterceptor,
+                                 TransitionEngineFactory transitionEngineFactory,
+                                 TransitionMetrics transitionMetrics,
+                                 DomainEventBus domainEventBus) {
+        this.milestoneRepository = milestoneRepository;
+        this.transitionMetrics = transitionMetrics;
+        this.domainEventBus = domainEventBus;
+        this.transitionEngine = transitionEngineFactory.create("milestone", milestoneStatus.class, milestoneEvent.class,
+                stateMachineFactory, milestoneInterceptor);
+        this.bulkPlanner = new CompiledTransitionEngine<>("milestone-bulk", milestoneStatus.class, milestoneEvent.class,
+                stateMachineFactory, milestoneInterceptor);
+    }
 
-        sm.stopReactively().block();
+    public TransitionResult<milestoneStatus> fireEvent(UUID milestoneId, milestoneEvent event) {
+        return fireEventAsync(milestoneId, event).block();
+    }
 
-        sm.getStateMachineAccessor().doWithAllRegions(accessor -> {
+    public Mono<TransitionResult<milestoneStatus>> fireEventAsync(UUID milestoneId, milestoneEvent event) {
+        return Mono.defer(() -> {
+            milestoneStatus currentStatus = milestoneRepository.findStatusById(milestoneId)
+                    .orElseThrow(() -> new RuntimeException("Milestone not found!"));
 
-            accessor.addStateMachineInterceptor(milestoneInterceptor);
+            Message<milestoneEvent> message = MessageBuilder
+                    .withPayload(event)
+                    .setHeader("milestoneId", milestoneId)
+                    .build();
 
-            accessor.resetStateMachineReactively(new DefaultStateMachineContext<>(
-                    milestone.getStatus(), null, null, null
-            )).block();
+            return transitionEngine.fire(milestoneId, currentStatus, message);
         });
+    }
 
-        sm.startReactively().block();
-
-        return sm;
+    // Results come back in the same order as the requests
+    public List<TransitionResult<milestoneStatus>> fireEvents(List<TransitionRequest<milestoneEvent>> requests) {
+        return Flux.fromIterable(requests)
+                .concatMap(request -> fireEventAsync(request.entityId(), request.event()))
+                .collectList()
+                .block();
     }
 
-    public void fireEvent(UUID milestoneId, milestoneEvent event) {
-        StateMachine<milestoneStatus, milestoneEvent> sm = buildStateMachine(milestoneId);
+    @Transactional
+    public List<TransitionResult<milestoneStatus>> transitionAll(UUID jobId, milestoneEvent event, Predicate<Milestones> filter) {
+        return transitionAll(jobId, event, filter, Map.of());
+    }
 
-        Message<milestoneEvent> message = MessageBuilder
-                .withPayload(event)
-                .setHeader("milestoneId", milestoneId)
-                .build();
+    /**
+     * Fires one event at every milestone of a job that matches the filter.
+     * Milestones are loaded in one query, guards run in memory against the given headers,
+     * and the accepted ones are written with one compare-and-set UPDATE per (from, to) pair.
+     * If any row moved underneath us the whole batch rolls back with a StaleTransitionException.
+     * Results are ordered by sequence order; milestones with no matching transition come back DENIED.
+     */
+    @Transactional
+    public List<TransitionResult<milestoneStatus>> transitionAll(UUID jobId, milestoneEvent event,
+                                                                 Predicate<Milestones> filter,
+                                                                 Map<String, Object> headers) {
+
+        List<Milestones> milestones = milestoneRepository.findAllByJobId(jobId).stream()
+                .filter(filter)
+                .sorted(Comparator.comparing(Milestones::getSequenceOrder))
+                .toList();
+
+        List<TransitionResult<milestoneStatus>> results = new ArrayList<>(milestones.size());
+        Map<milestoneStatus, Map<milestoneStatus, List<UUID>>> batches = new LinkedHashMap<>();
+
+        for (Milestones milestone : milestones) {
+            Message<milestoneEvent> message = MessageBuilder
+                    .withPayload(event)
+                    .copyHeaders(headers)
+                    .setHeader("milestoneId", milestone.getId())
+                    .build();
+
+            milestoneStatus from = milestone.getStatus();
+            milestoneStatus to = bulkPlanner.resolve(from, message);
+
+            if (to == null) {
+                results.add(new TransitionResult<>(milestone.getId(), TransitionResult.Outcome.DENIED, from));
+                transitionMetrics.countTransition("milestone", from, null, "denied", 1);
+                continue;
+            }
+
+            batches.computeIfAbsent(from, s -> new LinkedHashMap<>())
+                    .computeIfAbsent(to, s -> new ArrayList<>())
+                    .add(milestone.getId());
+            results.add(new TransitionResult<>(milestone.getId(), TransitionResult.Outcome.ACCEPTED, to));
+        }
+
+        batches.forEach((from, byTarget) -> byTarget.forEach((to, ids) -> {
+            if (!transitionMetrics.timePersist("milestone", from, to, () -> milestoneRepository.transitionStatuses(ids, from, to))) {
+                transitionMetrics.countTransition("milestone", from, to, "stale", ids.size());
+                throw new StaleTransitionException("milestone", ids, from, to);
+            }
+        }));
+
+        batches.forEach((from, byTarget) -> byTarget.forEach((to, ids) -> {
+            transitionMetrics.countTransition("milestone", from, to, "accepted", ids.size());
+            ids.forEach(id -> domainEventBus.publishAfterCommit(
+                    TransitionEvent.of("milestone", id, from, to, event, headers)));
+        }));
+
+        return results;
+    }
 
-        sm.sendEvent(Mono.just(message)).subscribe();
+    // Its own transaction: calling transitionAll on this skips the proxy, and with it the rollback
+    @Transactional
+    public List<TransitionResult<milestoneStatus>> cancelAllForJob(UUID jobId) {
+        return transitionAll(jobId, milestoneEvent.CANCEL_MILESTONE,
+                milestone -> milestone.getStatus() == milestoneStatus.AWAITING_PAYMENT);
     }
 
     // UN-GUARDED STATE TRANSITIONS
-    public void milestoneActivated(UUID milestoneId) {
-        fireEvent(milestoneId, milestoneEvent.UNLOCK);
+    public TransitionResult<milestoneStatus> milestoneActivated(UUID milestoneId) {
+        return fireEvent(milestoneId, milestoneEvent.UNLOCK);
     }
 
-    public void workedSubmitted(UUID milestoneId) {
-        fireEvent(milestoneId, milestoneEvent.SUBMITTED_WORK);
+    public TransitionResult<milestoneStatus> workedSubmitted(UUID milestoneId) {
+        return fireEvent(milestoneId, milestoneEvent.SUBMITTED_WORK);
     }
 
-    public void revokeSubmission(UUID milestoneId) {
-        fireEvent(milestoneId, milestoneEvent.REVOKE_SUBMISSION);
+    public TransitionResult<milestoneStatus> revokeSubmission(UUID milestoneId) {
+        return fireEvent(milestoneId, milestoneEvent.REVOKE_SUBMISSION);
     }
 
-    public void workApproved(UUID milestoneId) {
-        fireEvent(milestoneId, milestoneEvent.WORK_APPROVED);
+    public TransitionResult<milestoneStatus> workApproved(UUID milestoneId) {
+        return fireEvent(milestoneId, milestoneEvent.WORK_APPROVED);
     }
 
-    public void cancelMilestone(UUID milestoneId) {
-        fireEvent(milestoneId, milestoneEvent.CANCEL_MILESTONE);
+    public TransitionResult<milestoneStatus> cancelMilestone(UUID milestoneId) {
+        return fireEvent(milestoneId, milestoneEvent.CANCEL_MILESTONE);
     }
 
     // GUARDED STATE TRANSITIONS
-    public void fundsDeposited(UUID milestoneId) {
-        fireEvent(milestoneId, milestoneEvent.FUNDS_DEPOSITED);
+    public TransitionResult<milestoneStatus> fundsDeposited(UUID milestoneId) {
+        return fireEvent(milestoneId, milestoneEvent.FUNDS_DEPOSITED);
     }
 
-    public void releaseFunds(UUID milestoneId) {
-        fireEvent(milestoneId, milestoneEvent.RELEASE_FUNDS);
+    public TransitionResult<milestoneStatus> releaseFunds(UUID milestoneId) {
+        return fireEvent(milestoneId, milestoneEvent.RELEASE_FUNDS);
     }
 
-    public void disputeRaised(UUID milestoneId) {
-        fireEvent(milestoneId, milestoneEvent.RAISE_DISPUTE);
+    public TransitionResult<milestoneStatus> disputeRaised(UUID milestoneId) {
+        return fireEvent(milestoneId, milestoneEvent.RAISE_DISPUTE);
     }
 
-    public void disputeResolved(UUID milestoneId) {
-        fireEvent(milestoneId, milestoneEvent.RESOLVE_DISPUTE);
+    public TransitionResult<milestoneStatus> disputeResolved(UUID milestoneId) {
+        return fireEvent(milestoneId, milestoneEvent.RESOLVE_DISPUTE);
     }
 
-    public void disputeToArbitration(UUID milestoneId) {
-        fireEvent(milestoneId, milestoneEvent.DISPUTE_TO_ARBITRATION);
+    public TransitionResult<milestoneStatus> disputeToArbitration(UUID milestoneId) {
+        return fireEvent(milestoneId, milestoneEvent.DISPUTE_TO_ARBITRATION);
     }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.trustbridge.Features.Jobs.StateMachine.Interceptors;
 
-import com.trustbridge.Domain.Entities.Jobs;
+import com.trustbridge.Common.Events.DomainEventBus;
+import com.trustbridge.Common.Events.TransitionEvent;
+import com.trustbridge.Common.StateMachine.StaleTransitionException;
+import com.trustbridge.Common.StateMachine.TransitionMetrics;
 import com.trustbridge.Domain.Repositories.JobRepository;
 import com.trustbridge.Domain.Enums.JobStatus.*;
 import com.trustbridge.Domain.Enums.JobEvent.*;
@@ -22,6 +25,12 @@ public class JobStateChangeInterceptor extends StateMachineInterceptorAdapter<jo
     @Autowired
     JobRepository jobRepository;
 
+    @Autowired
+    TransitionMetrics transitionMetrics;
+
+    @Autowired
+    DomainEventBus domainEventBus;
+
     @Override
     public void preStateChange(State<jobStatus, jobEvent> state,
                                Message<jobEvent> message,
@@ -34,16 +43,16 @@ public class JobStateChangeInterceptor extends StateMachineInterceptorAdapter<jo
             UUID jobId = (UUID) msg.getHeaders().get("jobId");
 
             if (jobId != null) {
-                Jobs job = jobRepository.findById(jobId)
-                        .orElseThrow(() -> new RuntimeException("Job not found!"));
-
-                String initialState = job.getStatus().name();
+                jobStatus from = transition.getSource().getId();
+                jobStatus to = state.getId();
 
-                job.setStatus(jobStatus.valueOf(state.getId().name()));
+                if (!transitionMetrics.timePersist("job", from, to, () -> jobRepository.transitionStatus(jobId, from, to))) {
+                    throw new StaleTransitionException("job", jobId, from, to);
+                }
 
-                jobRepository.save(job);
+                domainEventBus.publishAfterCommit(TransitionEvent.of("job", jobId, from, to, msg));
 
-                System.out.println("Job Status Changed From: " + initialState + " to: " + state.getId().name());
+                System.out.println("Job Status Changed From: " + from + " to: " + to);
             }
         });
     }
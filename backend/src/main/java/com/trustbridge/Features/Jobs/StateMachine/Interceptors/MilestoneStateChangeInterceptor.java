@@ -1,6 +1,9 @@
 package com.trustbridge.Features.Jobs.StateMachine.Interceptors;
 
-import com.trustbridge.Domain.Entities.Milestones;
+import com.trustbridge.Common.Events.DomainEventBus;
+import com.trustbridge.Common.Events.TransitionEvent;
+import com.trustbridge.Common.StateMachine.StaleTransitionException;
+import com.trustbridge.Common.StateMachine.TransitionMetrics;
 import com.trustbridge.Domain.Repositories.MilestoneRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.Message;
@@ -21,6 +24,12 @@ public class MilestoneStateChangeInterceptor extends StateMachineInterceptorAdap
     @Autowired
     MilestoneRepository milestoneRepository;
 
+    @Autowired
+    TransitionMetrics transitionMetrics;
+
+    @Autowired
+    DomainEventBus domainEventBus;
+
     @Override
     public void preStateChange(State<milestoneStatus, milestoneEvent> state,
                                Message<milestoneEvent> message,
@@ -33,16 +42,16 @@ public class MilestoneStateChangeInterceptor extends StateMachineInterceptorAdap
             UUID milestoneId = (UUID) msg.getHeaders().get("milestoneId");
 
             if (milestoneId != null) {
-                Milestones milestone = milestoneRepository.findById(milestoneId)
-                                .orElseThrow(() -> new RuntimeException("Milestone not found!"));
-
-                String initialState = milestone.getStatus().name();
+                milestoneStatus from = transition.getSource().getId();
+                milestoneStatus to = state.getId();
 
-                milestone.setStatus(milestoneStatus.valueOf(state.getId().name()));
+                if (!transitionMetrics.timePersist("milestone", from, to, () -> milestoneRepository.transitionStatus(milestoneId, from, to))) {
+                    throw new StaleTransitionException("milestone", milestoneId, from, to);
+                }
 
-                milestoneRepository.save(milestone);
+                domainEventBus.publishAfterCommit(TransitionEvent.of("milestone", milestoneId, from, to, msg));
 
-                System.out.println("Milestone Status Changed From: " + initialState + " to: " + state.getId().name());
+                System.out.println("Milestone Status Changed From: " + from + " to: " + to);
             }
         });
     }
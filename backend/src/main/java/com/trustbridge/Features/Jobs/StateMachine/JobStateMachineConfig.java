@@ -2,15 +2,18 @@ package com.trustbridge.Features.Jobs.StateMachine;
 
 import com.trustbridge.Domain.Enums.JobEvent.*;
 import com.trustbridge.Domain.Enums.JobStatus.*;
+import com.trustbridge.Domain.Projections.JobMilestoneFacts;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.statemachine.config.EnableStateMachineFactory;
 import org.springframework.statemachine.config.EnumStateMachineConfigurerAdapter;
 import org.springframework.statemachine.config.builders.StateMachineStateConfigurer;
 import org.springframework.statemachine.config.builders.StateMachineTransitionConfigurer;
+import org.springframework.statemachine.StateContext;
 import org.springframework.statemachine.guard.Guard;
 
 import java.util.EnumSet;
+import java.util.function.Predicate;
 
 @Configuration
 @EnableStateMachineFactory(name = "JobStateMachineFactory")
@@ -85,8 +88,7 @@ public class JobStateMachineConfig extends EnumStateMachineConfigurerAdapter<job
                 .guard(jobDisputeResolvedGuard());
     }
 
-    // TODO: Develop all core logic for the guarded states similar to the one below
-
+    // The client's decision, so it stays a header: JobStateService.fireEvent(jobId, ACCEPT_OFFER, headers)
     @Bean
     public Guard<jobStatus, jobEvent> isClientApprovingGuard() {
         return context -> {
@@ -95,55 +97,47 @@ public class JobStateMachineConfig extends EnumStateMachineConfigurerAdapter<job
         };
     }
 
+    // The rest are decided by the milestones themselves, from the facts JobStateService attaches
+
     @Bean
     public Guard<jobStatus, jobEvent> firstMilestonePaidGuard() {
-        return context -> {
-            // getting sequence order
-            Integer sequence = context.getMessageHeaders().get("milestoneSequence", Integer.class);
-            // getting isFunded header
-            Boolean isFunded = context.getMessageHeaders().get("isFunded", Boolean.class);
-            return sequence != null && sequence == 1
-                    && isFunded != null && isFunded;
-        };
+        return milestoneFacts(JobMilestoneFacts::isFirstMilestoneFunded);
     }
 
     @Bean
     public Guard<jobStatus, jobEvent> allMilestonesCompleted() {
-        return context -> {
-            Boolean isAllMilestonesCompleted = (Boolean) context.getMessageHeaders().get("isAllMilestonesCompleted");
-            return isAllMilestonesCompleted != null && isAllMilestonesCompleted;
-        };
+        return milestoneFacts(JobMilestoneFacts::allSubmitted);
     }
 
     @Bean
     public Guard<jobStatus, jobEvent> jobApprovedGuard() {
-        return context -> {
-            Boolean isJobApproved = (Boolean) context.getMessageHeaders().get("isJobApproved");
-            return isJobApproved != null && isJobApproved;
-        };
+        return milestoneFacts(JobMilestoneFacts::allApproved);
     }
 
     @Bean
     public Guard<jobStatus, jobEvent> jobReleasedGuard() {
-        return context -> {
-            Boolean isJobReleased = (Boolean) context.getMessageHeaders().get("isJobReleased");
-            return isJobReleased != null && isJobReleased;
-        };
+        return milestoneFacts(JobMilestoneFacts::allSettled);
     }
 
     @Bean
     public Guard<jobStatus, jobEvent> jobDisputedGuard() {
-        return context -> {
-            Boolean isJobDisputed = (Boolean) context.getMessageHeaders().get("isJobDisputed");
-            return isJobDisputed != null && isJobDisputed;
-        };
+        return milestoneFacts(JobMilestoneFacts::hasOpenDispute);
     }
 
     @Bean
     public Guard<jobStatus, jobEvent> jobDisputeResolvedGuard() {
+        return milestoneFacts(facts -> !facts.hasOpenDispute());
+    }
+
+    // Denies when the facts weren't attached, e.g. an event sent without going through JobStateService
+    private static Guard<jobStatus, jobEvent> milestoneFacts(Predicate<JobMilestoneFacts> check) {
         return context -> {
-            Boolean isJobDisputeResolved = (Boolean) context.getMessageHeaders().get("isJobDisputeResolved");
-            return isJobDisputeResolved != null && isJobDisputeResolved;
+            JobMilestoneFacts facts = facts(context);
+            return facts != null && check.test(facts);
         };
     }
+
+    private static JobMilestoneFacts facts(StateContext<jobStatus, jobEvent> context) {
+        return context.getMessageHeaders().get(JobMilestoneFacts.HEADER, JobMilestoneFacts.class);
+    }
 }
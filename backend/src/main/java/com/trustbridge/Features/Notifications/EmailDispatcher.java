@@ -0,0 +1,129 @@
+package com.trustbridge.Features.Notifications;
+
+import com.trustbridge.Domain.Entities.EmailOutbox;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Drains the email outbox. Each tick claims batches while a sender is free and hands
+ * them to the email sender pool, where a whole batch goes out over one SMTP connection
+ * (JavaMailSender.send(MimeMessage...) connects once per call).
+ */
+@Component
+public class EmailDispatcher {
+
+    private final JavaMailSender mailSender;
+    private final EmailOutboxService emailOutboxService;
+    private final AsyncTaskExecutor emailSenderExecutor;
+    private final EmailOutboxProperties properties;
+    private final Semaphore freeSenders;
+
+    public EmailDispatcher(JavaMailSender mailSender,
+                           EmailOutboxService emailOutboxService,
+                           AsyncTaskExecutor emailSenderExecutor,
+                           EmailOutboxProperties properties) {
+        this.mailSender = mailSender;
+        this.emailOutboxService = emailOutboxService;
+        this.emailSenderExecutor = emailSenderExecutor;
+        this.properties = properties;
+        this.freeSenders = new Semaphore(properties.getWorkers());
+    }
+
+    @Scheduled(fixedDelayString = "${trustbridge.email.outbox.poll-interval:1s}")
+    public void dispatch() {
+        while (freeSenders.tryAcquire()) {
+            List<EmailOutbox> batch;
+            try {
+                batch = emailOutboxService.claimDue();
+            } catch (RuntimeException e) {
+                freeSenders.release();
+                throw e;
+            }
+
+            if (batch.isEmpty()) {
+                freeSenders.release();
+                return;
+            }
+
+            try {
+                emailSenderExecutor.execute(() -> {
+                    try {
+                        send(batch);
+                    } finally {
+                        freeSenders.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Shutting down: the claimed rows become due again once their lease runs out
+                freeSenders.release();
+                return;
+            }
+        }
+    }
+
+    void send(List<EmailOutbox> batch) {
+        // MimeMessage keeps identity equals, so this maps each message back to its row in send order
+        Map<MimeMessage, UUID> ids = new LinkedHashMap<>();
+        Map<UUID, String> failures = new HashMap<>();
+
+        for (EmailOutbox email : batch) {
+            try {
+                ids.put(toMimeMessage(email), email.getId());
+            } catch (MessagingException e) {
+                failures.put(email.getId(), e.getMessage());
+            }
+        }
+
+        try {
+            if (!ids.isEmpty()) {
+                mailSender.send(ids.keySet().toArray(new MimeMessage[0]));
+            }
+        } catch (MailSendException e) {
+            e.getFailedMessages().forEach((message, error) -> {
+                UUID id = ids.get(message);
+                if (id != null) {
+                    failures.put(id, error.getMessage());
+                }
+            });
+        } catch (MailException e) {
+            ids.values().forEach(id -> failures.put(id, e.getMessage()));
+        }
+
+        List<UUID> sent = ids.values().stream()
+                .filter(id -> !failures.containsKey(id))
+                .toList();
+
+        emailOutboxService.recordResults(sent, failures);
+
+        System.out.println("✅ Email batch sent: " + sent.size() + " delivered, " + failures.size() + " failed");
+    }
+
+    private MimeMessage toMimeMessage(EmailOutbox email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+
+        // true = multipart mode for attachments/html
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setFrom(properties.getFrom());
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody(), true);
+
+        return message;
+    }
+}
@@ -0,0 +1,31 @@
+package com.trustbridge.Features.Notifications;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "trustbridge.email.outbox")
+public class EmailOutboxProperties {
+
+    private String from = "noreply@trustbridge.com";
+
+    // Emails claimed and sent over one SMTP connection at a time
+    private int batchSize = 50;
+
+    // Batches being sent at once, which is also the size of the sender pool
+    private int workers = 2;
+
+    // How long a claimed row is hidden from other dispatchers; if the process dies it is retried after this
+    private Duration lease = Duration.ofMinutes(5);
+
+    // After this many failed sends the row is marked FAILED and left alone
+    private int maxAttempts = 8;
+
+    // Retry delay doubles from the initial backoff up to the max
+    private Duration initialBackoff = Duration.ofSeconds(30);
+    private Duration maxBackoff = Duration.ofHours(1);
+}
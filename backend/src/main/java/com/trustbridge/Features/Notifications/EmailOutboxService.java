@@ -0,0 +1,74 @@
+package com.trustbridge.Features.Notifications;
+
+import com.trustbridge.Domain.Entities.EmailOutbox;
+import com.trustbridge.Domain.Enums.EmailOutboxStatus;
+import com.trustbridge.Domain.Repositories.EmailOutboxRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxProperties properties;
+
+    public EmailOutboxService(EmailOutboxRepository emailOutboxRepository, EmailOutboxProperties properties) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Locks up to one batch of due rows and pushes their next attempt out by the lease,
+     * so once this commits no other dispatcher will pick them up while we send.
+     * A row is only marked SENT after the SMTP server accepted it, which means a crash
+     * between the two can send an email twice but never loses one.
+     */
+    @Transactional
+    public List<EmailOutbox> claimDue() {
+        List<EmailOutbox> due = emailOutboxRepository.lockDue(properties.getBatchSize());
+
+        OffsetDateTime leaseUntil = OffsetDateTime.now().plus(properties.getLease());
+        for (EmailOutbox email : due) {
+            email.setAttempts(email.getAttempts() + 1);
+            email.setNextAttemptAt(leaseUntil);
+        }
+        return due;
+    }
+
+    @Transactional
+    public void recordResults(Collection<UUID> sent, Map<UUID, String> failures) {
+        OffsetDateTime now = OffsetDateTime.now();
+
+        if (!sent.isEmpty()) {
+            emailOutboxRepository.markSent(sent, now);
+        }
+
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        for (EmailOutbox email : emailOutboxRepository.findAllById(failures.keySet())) {
+            email.setLastError(failures.get(email.getId()));
+
+            if (email.getAttempts() >= properties.getMaxAttempts()) {
+                email.setStatus(EmailOutboxStatus.FAILED);
+                System.err.println("❌ Giving up on email " + email.getId() + " to " + email.getRecipient()
+                        + " after " + email.getAttempts() + " attempts");
+            } else {
+                email.setNextAttemptAt(now.plus(backoff(email.getAttempts())));
+            }
+        }
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+}
@@ -0,0 +1,42 @@
+package com.trustbridge.Features.Notifications;
+
+import com.trustbridge.Domain.Entities.EmailOutbox;
+import com.trustbridge.Domain.Repositories.EmailOutboxRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+@Service
+public class EmailService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailTemplateEngine emailTemplateEngine;
+
+    public EmailService(EmailOutboxRepository emailOutboxRepository, EmailTemplateEngine emailTemplateEngine) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailTemplateEngine = emailTemplateEngine;
+    }
+
+    @Transactional
+    public void queue(String to, EmailTemplate template, Map<String, ?> model) {
+        RenderedEmail email = emailTemplateEngine.render(template, model);
+        queue(to, email.subject(), email.body());
+    }
+
+    // Joins the caller's transaction, so the email only exists if the business change commits.
+    // EmailDispatcher picks it up from the outbox and does the SMTP work off the request thread.
+    @Transactional
+    public void queue(String to, String subject, String body) {
+        emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .nextAttemptAt(OffsetDateTime.now())
+                .build());
+
+        System.out.println("Email queued for: " + to);
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.trustbridge.Features.Notifications;
+
+/**
+ * Lifecycle emails, each backed by templates/email/{file}.html on the classpath.
+ * Subjects use the same {{name}} placeholders as the body but are not HTML escaped.
+ */
+public enum EmailTemplate {
+
+    JOB_INVITE("job-invite", "Project Proposal: {{title}}"),
+    JOB_FUNDED("job-funded", "Project Funded: {{title}}"),
+    MILESTONE_SUBMITTED("milestone-submitted", "Milestone Submitted: {{milestoneTitle}}"),
+    PAYMENT_RELEASED("payment-released", "Payment Released: {{milestoneTitle}}");
+
+    private final String file;
+    private final String subject;
+
+    EmailTemplate(String file, String subject) {
+        this.file = file;
+        this.subject = subject;
+    }
+
+    public String file() {
+        return file;
+    }
+
+    public String subject() {
+        return subject;
+    }
+}
@@ -0,0 +1,143 @@
+package com.trustbridge.Features.Notifications;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders the lifecycle emails in {@link EmailTemplate}.
+ * Every template is read from the classpath and parsed once at startup into alternating
+ * literal / placeholder segments, with {{> partial}} includes inlined at that point.
+ * Rendering then just appends segments into a buffer sized for the template's literal text,
+ * HTML escaping each value.
+ *
+ * Syntax: {{name}} inserts model.get("name") escaped (missing values render as nothing),
+ * {{> file}} includes templates/email/file.html.
+ */
+@Component
+public class EmailTemplateEngine {
+
+    private static final String LOCATION = "templates/email/";
+    private static final int MAX_PARTIAL_DEPTH = 5;
+
+    // Room for the values on top of the literal text, so a typical email never grows its buffer
+    private static final int VALUE_ALLOWANCE = 256;
+
+    private final Map<EmailTemplate, CompiledTemplate> bodies = new EnumMap<>(EmailTemplate.class);
+    private final Map<EmailTemplate, CompiledTemplate> subjects = new EnumMap<>(EmailTemplate.class);
+
+    public EmailTemplateEngine() {
+        for (EmailTemplate template : EmailTemplate.values()) {
+            bodies.put(template, CompiledTemplate.parse(template.file(), expandPartials(read(template.file()), 0), true));
+            subjects.put(template, CompiledTemplate.parse(template.name() + " subject", template.subject(), false));
+        }
+    }
+
+    public RenderedEmail render(EmailTemplate template, Map<String, ?> model) {
+        return new RenderedEmail(subjects.get(template).render(model), bodies.get(template).render(model));
+    }
+
+    private static String read(String file) {
+        try {
+            return new ClassPathResource(LOCATION + file + ".html").getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Email template not found: " + LOCATION + file + ".html", e);
+        }
+    }
+
+    private static String expandPartials(String source, int depth) {
+        int start = source.indexOf("{{>");
+        if (start < 0) {
+            return source;
+        }
+        if (depth >= MAX_PARTIAL_DEPTH) {
+            throw new IllegalStateException("Email template partials nested deeper than " + MAX_PARTIAL_DEPTH);
+        }
+
+        StringBuilder expanded = new StringBuilder(source.length() * 2);
+        int position = 0;
+        while (start >= 0) {
+            int end = closingBraces(source, start);
+            String partial = source.substring(start + 3, end).trim();
+
+            expanded.append(source, position, start).append(expandPartials(read(partial), depth + 1));
+            position = end + 2;
+            start = source.indexOf("{{>", position);
+        }
+        return expanded.append(source, position, source.length()).toString();
+    }
+
+    private static int closingBraces(String source, int start) {
+        int end = source.indexOf("}}", start);
+        if (end < 0) {
+            throw new IllegalStateException("Unclosed {{ in email template at offset " + start);
+        }
+        return end;
+    }
+
+    static void escapeHtml(CharSequence value, StringBuilder out) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    /**
+     * literals always has one more entry than names: literal[0] name[0] literal[1] ... literal[n].
+     * literalLength is the total length of the literals, the smallest any rendering can be.
+     */
+    record CompiledTemplate(String name, String[] literals, String[] names, boolean escape, int literalLength) {
+
+        static CompiledTemplate parse(String name, String source, boolean escape) {
+            List<String> literals = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+
+            int position = 0;
+            int start;
+            while ((start = source.indexOf("{{", position)) >= 0) {
+                int end = closingBraces(source, start);
+                literals.add(source.substring(position, start));
+                names.add(source.substring(start + 2, end).trim());
+                position = end + 2;
+            }
+            literals.add(source.substring(position));
+
+            int literalLength = literals.stream().mapToInt(String::length).sum();
+            return new CompiledTemplate(name, literals.toArray(new String[0]), names.toArray(new String[0]), escape,
+                    literalLength);
+        }
+
+        String render(Map<String, ?> model) {
+            // A fresh buffer per call: nothing is pinned to a thread, which matters once callers are virtual threads
+            StringBuilder out = new StringBuilder(literalLength + VALUE_ALLOWANCE);
+            for (int i = 0; i < names.length; i++) {
+                out.append(literals[i]);
+
+                Object value = model.get(names[i]);
+                if (value == null) {
+                    continue;
+                }
+                if (escape) {
+                    escapeHtml(value.toString(), out);
+                } else {
+                    out.append(value);
+                }
+            }
+            out.append(literals[names.length]);
+            return out.toString();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.trustbridge.Features.Notifications;
+
+import com.trustbridge.Config.WorkerExecutors;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+@Configuration
+public class NotificationConfig {
+
+    // Dedicated to SMTP so slow mail servers never hold up request or scheduler threads
+    @Bean
+    public AsyncTaskExecutor emailSenderExecutor(EmailOutboxProperties properties, Environment environment) {
+        return WorkerExecutors.ioWorkers("email-sender-", properties.getWorkers(), environment);
+    }
+}
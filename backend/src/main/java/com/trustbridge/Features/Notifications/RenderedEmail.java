@@ -0,0 +1,4 @@
+package com.trustbridge.Features.Notifications;
+
+public record RenderedEmail(String subject, String body) {
+}
@@ -0,0 +1,34 @@
+package com.trustbridge.Features.Payments.Controllers.API;
+
+import com.stripe.exception.SignatureVerificationException;
+import com.trustbridge.Features.Payments.Service.StripeService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/stripe")
+public class StripeWebhookController {
+
+    private final StripeService stripeService;
+
+    public StripeWebhookController(StripeService stripeService) {
+        this.stripeService = stripeService;
+    }
+
+    // Acknowledges as soon as the event is in the inbox; redeliveries and ignored events get a 200 as well.
+    // Only a failed signature is a 4xx, Stripe retries those for days
+    @PostMapping("/webhook")
+    public ResponseEntity<Void> webhook(@RequestBody String payload,
+                                        @RequestHeader("Stripe-Signature") String signature) {
+        try {
+            stripeService.receive(payload, signature);
+        } catch (SignatureVerificationException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok().build();
+    }
+}
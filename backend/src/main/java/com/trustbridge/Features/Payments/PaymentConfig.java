@@ -0,0 +1,18 @@
+package com.trustbridge.Features.Payments;
+
+import com.trustbridge.Config.WorkerExecutors;
+import com.trustbridge.Features.Payments.Service.StripeWebhookProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+@Configuration
+public class PaymentConfig {
+
+    // Applies Stripe inbox events off the request thread so the webhook only ever does the insert
+    @Bean
+    public AsyncTaskExecutor stripeWebhookExecutor(StripeWebhookProperties properties, Environment environment) {
+        return WorkerExecutors.ioWorkers("stripe-webhook-", properties.getWorkers(), environment);
+    }
+}
@@ -0,0 +1,17 @@
+package com.trustbridge.Features.Payments.Service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "trustbridge.payments.expiry")
+public class PaymentExpiryProperties {
+
+    // Payment requests locked and expired in one transaction
+    private int chunkSize = 500;
+
+    // Upper bound on chunks per sweep so one instance can't hold the scheduler thread forever
+    private int maxChunksPerRun = 20;
+}
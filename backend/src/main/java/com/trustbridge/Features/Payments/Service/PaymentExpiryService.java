@@ -0,0 +1,54 @@
+package com.trustbridge.Features.Payments.Service;
+
+import com.trustbridge.Common.Events.DomainEventBus;
+import com.trustbridge.Common.Events.TransitionEvent;
+import com.trustbridge.Domain.Enums.PaymentRequestEvent;
+import com.trustbridge.Domain.Enums.PaymentRequestStatus;
+import com.trustbridge.Domain.Repositories.PaymentRequestRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class PaymentExpiryService {
+
+    private final PaymentRequestRepository paymentRequestRepository;
+    private final PaymentExpiryProperties properties;
+    private final DomainEventBus domainEventBus;
+
+    public PaymentExpiryService(PaymentRequestRepository paymentRequestRepository,
+                                PaymentExpiryProperties properties,
+                                DomainEventBus domainEventBus) {
+        this.paymentRequestRepository = paymentRequestRepository;
+        this.properties = properties;
+        this.domainEventBus = domainEventBus;
+    }
+
+    /**
+     * Locks one chunk of overdue PENDING payment requests with SKIP LOCKED and moves them
+     * all to EXPIRED with a single UPDATE before the locks are released on commit.
+     * Instances running this at the same time each get a different chunk, and a request
+     * that was paid or cancelled in the meantime is left alone by the status check.
+     */
+    @Transactional
+    public List<UUID> expireChunk() {
+        List<UUID> due = paymentRequestRepository.lockExpired(properties.getChunkSize());
+        if (due.isEmpty()) {
+            return due;
+        }
+
+        paymentRequestRepository.markExpired(due);
+        due.forEach(id -> domainEventBus.publishAfterCommit(TransitionEvent.of("payment", id,
+                PaymentRequestStatus.PENDING, PaymentRequestStatus.EXPIRED, PaymentRequestEvent.EXPIRE_REQUEST, Map.of())));
+        return due;
+    }
+
+    public Optional<OffsetDateTime> oldestOverdue() {
+        return paymentRequestRepository.findOldestExpiredPending(OffsetDateTime.now());
+    }
+}
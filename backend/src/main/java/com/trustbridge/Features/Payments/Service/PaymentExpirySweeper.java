@@ -0,0 +1,84 @@
+package com.trustbridge.Features.Payments.Service;
+
+import com.trustbridge.Common.StateMachine.TransitionMetrics;
+import com.trustbridge.Domain.Enums.PaymentRequestStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Expires PENDING payment requests once their expires_at has passed.
+ * Each tick expires chunk after chunk until one comes back short or the per-run limit is hit,
+ * then records how far behind the oldest still-overdue request is.
+ * Expiry is purely time based, so the rows are moved in bulk rather than through the payment state machine.
+ */
+@Component
+public class PaymentExpirySweeper {
+
+    private final PaymentExpiryService paymentExpiryService;
+    private final PaymentExpiryProperties properties;
+    private final TransitionMetrics transitionMetrics;
+
+    private final Counter expiredCounter;
+    private final Timer chunkTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public PaymentExpirySweeper(PaymentExpiryService paymentExpiryService,
+                                PaymentExpiryProperties properties,
+                                TransitionMetrics transitionMetrics,
+                                MeterRegistry meterRegistry) {
+        this.paymentExpiryService = paymentExpiryService;
+        this.properties = properties;
+        this.transitionMetrics = transitionMetrics;
+
+        this.expiredCounter = Counter.builder("trustbridge.payments.expiry.expired")
+                .description("Payment requests moved to EXPIRED by the sweeper")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("trustbridge.payments.expiry.chunk")
+                .description("Time to lock and expire one chunk of payment requests")
+                .register(meterRegistry);
+        TimeGauge.builder("trustbridge.payments.expiry.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("How long the oldest overdue PENDING payment request has been waiting to expire")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${trustbridge.payments.expiry.interval:30s}")
+    public void sweep() {
+        int total = 0;
+
+        for (int chunk = 0; chunk < properties.getMaxChunksPerRun(); chunk++) {
+            List<UUID> expired = chunkTimer.record(paymentExpiryService::expireChunk);
+            if (expired == null || expired.isEmpty()) {
+                break;
+            }
+
+            total += expired.size();
+            expiredCounter.increment(expired.size());
+            transitionMetrics.countTransition("payment", PaymentRequestStatus.PENDING, PaymentRequestStatus.EXPIRED,
+                    "accepted", expired.size());
+
+            if (expired.size() < properties.getChunkSize()) {
+                break;
+            }
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        lagMillis.set(paymentExpiryService.oldestOverdue()
+                .map(oldest -> Math.max(0, Duration.between(oldest, now).toMillis()))
+                .orElse(0L));
+
+        if (total > 0) {
+            System.out.println("⏰ Expired " + total + " payment requests");
+        }
+    }
+}
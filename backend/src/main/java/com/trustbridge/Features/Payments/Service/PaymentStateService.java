@@ -1,19 +1,22 @@
 package com.trustbridge.Features.Payments.Service;
 
-import com.trustbridge.Domain.Entities.PaymentRequest;
+import com.trustbridge.Common.StateMachine.TransitionEngine;
+import com.trustbridge.Common.StateMachine.TransitionEngineFactory;
+import com.trustbridge.Common.StateMachine.TransitionRequest;
+import com.trustbridge.Common.StateMachine.TransitionResult;
 import com.trustbridge.Domain.Enums.PaymentRequestEvent;
 import com.trustbridge.Domain.Enums.PaymentRequestStatus;
 import com.trustbridge.Domain.Repositories.PaymentRequestRepository;
 import com.trustbridge.Features.Payments.StateMachine.Interceptors.PaymentRequestChangeInterceptor;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
-import org.springframework.statemachine.StateMachine;
 import org.springframework.statemachine.config.StateMachineFactory;
-import org.springframework.statemachine.support.DefaultStateMachineContext;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -22,77 +25,80 @@ public class PaymentStateService {
 
     PaymentRequestRepository paymentRequestRepository;
 
-    @Autowired
-    StateMachineFactory<PaymentRequestStatus, PaymentRequestEvent> stateMachineFactory;
+    private final TransitionEngine<PaymentRequestStatus, PaymentRequestEvent> transitionEngine;
 
-    @Autowired
-    PaymentRequestChangeInterceptor interceptor;
-
-    public PaymentStateService(PaymentRequestRepository paymentRequestRepository) {
+    public PaymentStateService(PaymentRequestRepository paymentRequestRepository,
+                               StateMachineFactory<PaymentRequestStatus, PaymentRequestEvent> stateMachineFactory,
+                               PaymentRequestChangeInterceptor interceptor,
+                               TransitionEngineFactory transitionEngineFactory) {
         this.paymentRequestRepository = paymentRequestRepository;
+        this.transitionEngine = transitionEngineFactory.create("payment", PaymentRequestStatus.class, PaymentRequestEvent.class,
+                stateMachineFactory, interceptor);
     }
 
 
-    private StateMachine<PaymentRequestStatus, PaymentRequestEvent> buildStateMachine(UUID paymentId) {
-
-        PaymentRequest paymentRequest = paymentRequestRepository.findById(paymentId)
-                .orElseThrow(() -> new RuntimeException("Payment not found!"));
+    public TransitionResult<PaymentRequestStatus> fireEvent(UUID paymentId, PaymentRequestEvent event) {
+        return fireEventAsync(paymentId, event).block();
+    }
 
-        StateMachine<PaymentRequestStatus, PaymentRequestEvent> sm = stateMachineFactory.getStateMachine(paymentId.toString());
+    public TransitionResult<PaymentRequestStatus> fireEvent(UUID paymentId, PaymentRequestEvent event, Map<String, Object> headers) {
+        return fireEventAsync(paymentId, event, headers).block();
+    }
 
-        sm.stopReactively().block();
+    public Mono<TransitionResult<PaymentRequestStatus>> fireEventAsync(UUID paymentId, PaymentRequestEvent event) {
+        return fireEventAsync(paymentId, event, Map.of());
+    }
 
-        sm.getStateMachineAccessor().doWithAllRegions(accessor -> {
+    public Mono<TransitionResult<PaymentRequestStatus>> fireEventAsync(UUID paymentId, PaymentRequestEvent event,
+                                                                       Map<String, Object> headers) {
+        return Mono.defer(() -> {
+            PaymentRequestStatus currentStatus = paymentRequestRepository.findStatusById(paymentId)
+                    .orElseThrow(() -> new RuntimeException("Payment not found!"));
 
-            accessor.addStateMachineInterceptor(interceptor);
+            Message<PaymentRequestEvent> message = MessageBuilder
+                    .withPayload(event)
+                    .copyHeaders(headers)
+                    .setHeader("paymentRequestId", paymentId)
+                    .build();
 
-            accessor.resetStateMachineReactively(new DefaultStateMachineContext<>(
-                    paymentRequest.getStatus(), null, null, null
-            )).block();
+            return transitionEngine.fire(paymentId, currentStatus, message);
         });
-
-        sm.startReactively().block();
-
-        return sm;
     }
 
-    public void fireEvent(UUID paymentId, PaymentRequestEvent event) {
-        StateMachine<PaymentRequestStatus, PaymentRequestEvent> sm = buildStateMachine(paymentId);
-
-        Message<PaymentRequestEvent> message = MessageBuilder
-                .withPayload(event)
-                .setHeader("paymentRequestId", paymentId)
-                .build();
-
-        sm.sendEvent(Mono.just(message)).subscribe();
+    // Results come back in the same order as the requests
+    public List<TransitionResult<PaymentRequestStatus>> fireEvents(List<TransitionRequest<PaymentRequestEvent>> requests) {
+        return Flux.fromIterable(requests)
+                .concatMap(request -> fireEventAsync(request.entityId(), request.event()))
+                .collectList()
+                .block();
     }
 
-    public void initiatePayment(UUID paymentId) {
-        fireEvent(paymentId, PaymentRequestEvent.INITIATE_PAYMENT);
+    public TransitionResult<PaymentRequestStatus> initiatePayment(UUID paymentId) {
+        return fireEvent(paymentId, PaymentRequestEvent.INITIATE_PAYMENT);
     }
 
-    public void paymentSuccessful(UUID paymentId) {
-        fireEvent(paymentId, PaymentRequestEvent.PAYMENT_SUCCESSFUL);
+    public TransitionResult<PaymentRequestStatus> paymentSuccessful(UUID paymentId) {
+        return fireEvent(paymentId, PaymentRequestEvent.PAYMENT_SUCCESSFUL);
     }
 
-    public void paymentFailed(UUID paymentId) {
-        fireEvent(paymentId, PaymentRequestEvent.PAYMENT_FAILED);
+    public TransitionResult<PaymentRequestStatus> paymentFailed(UUID paymentId) {
+        return fireEvent(paymentId, PaymentRequestEvent.PAYMENT_FAILED);
     }
 
-    public void retryPayment(UUID paymentId) {
-        fireEvent(paymentId, PaymentRequestEvent.RETRY_PAYMENT);
+    public TransitionResult<PaymentRequestStatus> retryPayment(UUID paymentId) {
+        return fireEvent(paymentId, PaymentRequestEvent.RETRY_PAYMENT);
     }
 
-    public void expirePayment(UUID paymentId) {
-        fireEvent(paymentId, PaymentRequestEvent.EXPIRE_REQUEST);
+    public TransitionResult<PaymentRequestStatus> expirePayment(UUID paymentId) {
+        return fireEvent(paymentId, PaymentRequestEvent.EXPIRE_REQUEST);
     }
 
-    public void cancelPayment(UUID paymentId) {
-        fireEvent(paymentId, PaymentRequestEvent.CANCEL_REQUEST);
+    public TransitionResult<PaymentRequestStatus> cancelPayment(UUID paymentId) {
+        return fireEvent(paymentId, PaymentRequestEvent.CANCEL_REQUEST);
     }
 
-    public void refundPayment(UUID paymentId) {
-        fireEvent(paymentId, PaymentRequestEvent.REFUND_REQUEST);
+    public TransitionResult<PaymentRequestStatus> refundPayment(UUID paymentId) {
+        return fireEvent(paymentId, PaymentRequestEvent.REFUND_REQUEST);
     }
 
 }
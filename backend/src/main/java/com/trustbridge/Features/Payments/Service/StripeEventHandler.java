@@ -0,0 +1,95 @@
+package com.trustbridge.Features.Payments.Service;
+
+import com.stripe.model.Event;
+import com.stripe.model.checkout.Session;
+import com.trustbridge.Common.StateMachine.TransitionResult;
+import com.trustbridge.Domain.Entities.StripeWebhookEvent;
+import com.trustbridge.Domain.Enums.PaymentRequestEvent;
+import com.trustbridge.Domain.Enums.PaymentRequestStatus;
+import com.trustbridge.Domain.Enums.StripeWebhookEventStatus;
+import com.trustbridge.Domain.Repositories.PaymentRequestRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Turns one stored Stripe event into payment request transitions.
+ * Stripe only tells us the outcome, so a payment still PENDING is first moved to PROCESSING.
+ * A transition that is denied because the payment already moved on (a redelivery after a crash,
+ * or an out of order async event) is recorded as IGNORED rather than retried.
+ */
+@Component
+public class StripeEventHandler {
+
+    private final PaymentStateService paymentStateService;
+    private final PaymentRequestRepository paymentRequestRepository;
+
+    public StripeEventHandler(PaymentStateService paymentStateService, PaymentRequestRepository paymentRequestRepository) {
+        this.paymentStateService = paymentStateService;
+        this.paymentRequestRepository = paymentRequestRepository;
+    }
+
+    public StripeWebhookEventStatus apply(StripeWebhookEvent inboxEvent) {
+        Event event = StripeService.parse(inboxEvent.getPayload());
+        Optional<Session> session = StripeService.checkoutSession(event);
+        Optional<UUID> paymentId = session.flatMap(this::resolvePaymentRequest);
+
+        if (paymentId.isEmpty()) {
+            System.out.println("Stripe event " + inboxEvent.getStripeEventId() + " does not match a payment request");
+            return StripeWebhookEventStatus.IGNORED;
+        }
+
+        return switch (inboxEvent.getEventType()) {
+            case StripeService.SESSION_COMPLETED -> "paid".equals(session.get().getPaymentStatus())
+                    ? succeeded(paymentId.get())
+                    : outcome(initiate(paymentId.get()));
+            case StripeService.ASYNC_PAYMENT_SUCCEEDED -> succeeded(paymentId.get());
+            case StripeService.ASYNC_PAYMENT_FAILED -> failed(paymentId.get());
+            default -> StripeWebhookEventStatus.IGNORED;
+        };
+    }
+
+    private StripeWebhookEventStatus succeeded(UUID paymentId) {
+        initiate(paymentId);
+        return outcome(paymentStateService.fireEvent(paymentId, PaymentRequestEvent.PAYMENT_SUCCESSFUL,
+                Map.of("isPaymentSuccessful", true)));
+    }
+
+    private StripeWebhookEventStatus failed(UUID paymentId) {
+        initiate(paymentId);
+        return outcome(paymentStateService.fireEvent(paymentId, PaymentRequestEvent.PAYMENT_FAILED,
+                Map.of("isPaymentFailed", true)));
+    }
+
+    // Denied when the payment is already PROCESSING, which is fine
+    private TransitionResult<PaymentRequestStatus> initiate(UUID paymentId) {
+        return paymentStateService.fireEvent(paymentId, PaymentRequestEvent.INITIATE_PAYMENT,
+                Map.of("isPaymentInitiated", true));
+    }
+
+    private StripeWebhookEventStatus outcome(TransitionResult<PaymentRequestStatus> result) {
+        return result.isAccepted()
+                ? StripeWebhookEventStatus.PROCESSED
+                : StripeWebhookEventStatus.IGNORED;
+    }
+
+    private Optional<UUID> resolvePaymentRequest(Session session) {
+        String reference = session.getClientReferenceId();
+        if (reference == null && session.getMetadata() != null) {
+            reference = session.getMetadata().get("paymentRequestId");
+        }
+
+        if (reference != null) {
+            try {
+                UUID id = UUID.fromString(reference);
+                return paymentRequestRepository.existsById(id) ? Optional.of(id) : Optional.empty();
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        }
+
+        return paymentRequestRepository.findIdByStripeSessionId(session.getId());
+    }
+}
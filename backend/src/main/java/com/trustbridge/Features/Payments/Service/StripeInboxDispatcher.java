@@ -0,0 +1,80 @@
+package com.trustbridge.Features.Payments.Service;
+
+import com.trustbridge.Domain.Entities.StripeWebhookEvent;
+import com.trustbridge.Domain.Enums.StripeWebhookEventStatus;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Drains the Stripe webhook inbox. Each tick claims as many events as there are free workers
+ * and applies them on the webhook pool. A claim never holds two events for the same payment,
+ * so events can run in parallel while each payment still sees its events in order.
+ */
+@Component
+public class StripeInboxDispatcher {
+
+    private final StripeInboxService stripeInboxService;
+    private final StripeEventHandler stripeEventHandler;
+    private final AsyncTaskExecutor stripeWebhookExecutor;
+    private final StripeWebhookProperties properties;
+    private final Semaphore freeWorkers;
+
+    public StripeInboxDispatcher(StripeInboxService stripeInboxService,
+                                 StripeEventHandler stripeEventHandler,
+                                 AsyncTaskExecutor stripeWebhookExecutor,
+                                 StripeWebhookProperties properties) {
+        this.stripeInboxService = stripeInboxService;
+        this.stripeEventHandler = stripeEventHandler;
+        this.stripeWebhookExecutor = stripeWebhookExecutor;
+        this.properties = properties;
+        this.freeWorkers = new Semaphore(properties.getWorkers());
+    }
+
+    @Scheduled(fixedDelayString = "${trustbridge.stripe.webhook.poll-interval:500ms}")
+    public void dispatch() {
+        int free;
+        while ((free = Math.min(freeWorkers.availablePermits(), properties.getBatchSize())) > 0) {
+            List<StripeWebhookEvent> due = stripeInboxService.claimDue(free);
+
+            for (StripeWebhookEvent event : due) {
+                // Only this thread takes permits and we never claim more than were free, so this doesn't block
+                freeWorkers.acquireUninterruptibly();
+                try {
+                    stripeWebhookExecutor.execute(() -> {
+                        try {
+                            apply(event);
+                        } finally {
+                            freeWorkers.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    // Shutting down: the claimed rows become due again once their lease runs out
+                    freeWorkers.release();
+                    return;
+                }
+            }
+
+            if (due.size() < free) {
+                return;
+            }
+        }
+    }
+
+    void apply(StripeWebhookEvent event) {
+        StripeWebhookEventStatus status;
+        try {
+            status = stripeEventHandler.apply(event);
+        } catch (RuntimeException e) {
+            stripeInboxService.recordFailure(event.getId(), e.getMessage());
+            return;
+        }
+
+        stripeInboxService.recordApplied(event.getId(), status);
+        System.out.println("✅ Stripe event " + event.getStripeEventId() + " (" + event.getEventType() + ") " + status);
+    }
+}
@@ -0,0 +1,70 @@
+package com.trustbridge.Features.Payments.Service;
+
+import com.trustbridge.Domain.Entities.StripeWebhookEvent;
+import com.trustbridge.Domain.Enums.StripeWebhookEventStatus;
+import com.trustbridge.Domain.Repositories.StripeWebhookEventRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class StripeInboxService {
+
+    private final StripeWebhookEventRepository stripeWebhookEventRepository;
+    private final StripeWebhookProperties properties;
+
+    public StripeInboxService(StripeWebhookEventRepository stripeWebhookEventRepository, StripeWebhookProperties properties) {
+        this.stripeWebhookEventRepository = stripeWebhookEventRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Locks up to limit events, at most one per ordering key, and pushes their next attempt out
+     * by the lease so no other dispatcher picks them up once this commits.
+     * The rows stay PENDING while leased, which keeps later events for the same payment waiting.
+     */
+    @Transactional
+    public List<StripeWebhookEvent> claimDue(int limit) {
+        List<StripeWebhookEvent> due = stripeWebhookEventRepository.lockDue(limit);
+
+        OffsetDateTime leaseUntil = OffsetDateTime.now().plus(properties.getLease());
+        for (StripeWebhookEvent event : due) {
+            event.setAttempts(event.getAttempts() + 1);
+            event.setNextAttemptAt(leaseUntil);
+        }
+        return due;
+    }
+
+    @Transactional
+    public void recordApplied(UUID id, StripeWebhookEventStatus status) {
+        stripeWebhookEventRepository.findById(id).ifPresent(event -> {
+            event.setStatus(status);
+            event.setLastError(null);
+            event.setProcessedAt(OffsetDateTime.now());
+        });
+    }
+
+    @Transactional
+    public void recordFailure(UUID id, String error) {
+        stripeWebhookEventRepository.findById(id).ifPresent(event -> {
+            event.setLastError(error);
+
+            if (event.getAttempts() >= properties.getMaxAttempts()) {
+                event.setStatus(StripeWebhookEventStatus.FAILED);
+                System.err.println("❌ Giving up on Stripe event " + event.getStripeEventId()
+                        + " after " + event.getAttempts() + " attempts");
+            } else {
+                event.setNextAttemptAt(OffsetDateTime.now().plus(backoff(event.getAttempts())));
+            }
+        });
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+}
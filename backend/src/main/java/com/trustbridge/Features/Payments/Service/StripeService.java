@@ -1,7 +1,100 @@
 package com.trustbridge.Features.Payments.Service;
 
+import com.stripe.exception.SignatureVerificationException;
+import com.stripe.model.Event;
+import com.stripe.model.EventDataObjectDeserializer;
+import com.stripe.model.StripeObject;
+import com.stripe.model.checkout.Session;
+import com.stripe.net.ApiResource;
+import com.stripe.net.Webhook;
+import com.trustbridge.Domain.Ids.UuidV7;
+import com.trustbridge.Domain.Repositories.StripeWebhookEventRepository;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.Set;
+
 @Service
 public class StripeService {
+
+    // Checkout session events that move a payment request, everything else is acknowledged and dropped
+    public static final String SESSION_COMPLETED = "checkout.session.completed";
+    public static final String ASYNC_PAYMENT_SUCCEEDED = "checkout.session.async_payment_succeeded";
+    public static final String ASYNC_PAYMENT_FAILED = "checkout.session.async_payment_failed";
+
+    private static final Set<String> HANDLED_TYPES = Set.of(SESSION_COMPLETED, ASYNC_PAYMENT_SUCCEEDED, ASYNC_PAYMENT_FAILED);
+
+    private final StripeWebhookEventRepository stripeWebhookEventRepository;
+    private final StripeWebhookProperties properties;
+
+    public StripeService(StripeWebhookEventRepository stripeWebhookEventRepository, StripeWebhookProperties properties) {
+        this.stripeWebhookEventRepository = stripeWebhookEventRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Verifies the Stripe-Signature header and stores the raw event in the inbox.
+     * This is all the webhook request does: one HMAC, one JSON parse and one INSERT,
+     * the payment transitions are applied later by StripeInboxDispatcher.
+     * Returns false when the event was a redelivery, a type we don't handle, or a handled type without a
+     * checkout session (stored as IGNORED). Only a bad signature throws, anything else is acknowledged
+     * so Stripe doesn't keep retrying an event that will never be different.
+     */
+    public boolean receive(String payload, String signatureHeader) throws SignatureVerificationException {
+        Event event = Webhook.constructEvent(payload, signatureHeader, properties.getSecret(),
+                properties.getTolerance().toSeconds());
+
+        if (!HANDLED_TYPES.contains(event.getType())) {
+            return false;
+        }
+
+        OffsetDateTime createdAt = OffsetDateTime.ofInstant(Instant.ofEpochSecond(event.getCreated()), ZoneOffset.UTC);
+        Optional<Session> session = checkoutSession(event);
+        if (session.isEmpty()) {
+            stripeWebhookEventRepository.insertIgnoredIfAbsent(UuidV7.next(), event.getId(), event.getType(),
+                    payload, createdAt, "No checkout session in the event");
+            return false;
+        }
+
+        int inserted = stripeWebhookEventRepository.insertIfAbsent(
+                UuidV7.next(),
+                event.getId(),
+                event.getType(),
+                orderingKey(session.get()),
+                payload,
+                createdAt
+        );
+        return inserted == 1;
+    }
+
+    public static Event parse(String payload) {
+        return ApiResource.GSON.fromJson(payload, Event.class);
+    }
+
+    public static Optional<Session> checkoutSession(Event event) {
+        EventDataObjectDeserializer deserializer = event.getDataObjectDeserializer();
+        Optional<StripeObject> object = deserializer.getObject();
+
+        if (object.isEmpty()) {
+            // Sent with a different API version than this library, the session fields we read are the same
+            try {
+                object = Optional.of(deserializer.deserializeUnsafe());
+            } catch (Exception e) {
+                return Optional.empty();
+            }
+        }
+
+        return object.filter(Session.class::isInstance).map(Session.class::cast);
+    }
+
+    // Sessions are created with the payment request id as client_reference_id, so every session
+    // for the same payment request shares one key; the session id is the fallback
+    private static String orderingKey(Session session) {
+        return session.getClientReferenceId() != null
+                ? session.getClientReferenceId()
+                : session.getId();
+    }
 }
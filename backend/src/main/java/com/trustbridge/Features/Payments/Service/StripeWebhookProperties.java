@@ -0,0 +1,35 @@
+package com.trustbridge.Features.Payments.Service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "trustbridge.stripe.webhook")
+public class StripeWebhookProperties {
+
+    // Endpoint signing secret (whsec_...) from the Stripe dashboard or `stripe listen`
+    private String secret;
+
+    // Deliveries signed longer ago than this are rejected as replays
+    private Duration tolerance = Duration.ofMinutes(5);
+
+    // Inbox rows claimed per poll
+    private int batchSize = 50;
+
+    // Events applied at once, which is also the size of the worker pool
+    private int workers = 4;
+
+    // How long a claimed row is hidden from other dispatchers; if the process dies it is retried after this
+    private Duration lease = Duration.ofMinutes(2);
+
+    // After this many failed attempts the row is marked FAILED and the next event for the same payment goes ahead
+    private int maxAttempts = 10;
+
+    // Retry delay doubles from the initial backoff up to the max
+    private Duration initialBackoff = Duration.ofSeconds(10);
+    private Duration maxBackoff = Duration.ofMinutes(30);
+}
@@ -1,6 +1,9 @@
 package com.trustbridge.Features.Payments.StateMachine.Interceptors;
 
-import com.trustbridge.Domain.Entities.PaymentRequest;
+import com.trustbridge.Common.Events.DomainEventBus;
+import com.trustbridge.Common.Events.TransitionEvent;
+import com.trustbridge.Common.StateMachine.StaleTransitionException;
+import com.trustbridge.Common.StateMachine.TransitionMetrics;
 import com.trustbridge.Domain.Enums.PaymentRequestEvent;
 import com.trustbridge.Domain.Enums.PaymentRequestStatus;
 import com.trustbridge.Domain.Repositories.PaymentRequestRepository;
@@ -21,6 +24,12 @@ public class PaymentRequestChangeInterceptor extends StateMachineInterceptorAdap
     @Autowired
     PaymentRequestRepository paymentRequestRepository;
 
+    @Autowired
+    TransitionMetrics transitionMetrics;
+
+    @Autowired
+    DomainEventBus domainEventBus;
+
     @Override
     public void preStateChange(State<PaymentRequestStatus, PaymentRequestEvent> state,
                                Message<PaymentRequestEvent> message,
@@ -33,16 +42,16 @@ public class PaymentRequestChangeInterceptor extends StateMachineInterceptorAdap
             UUID paymentRequestId = (UUID) msg.getHeaders().get("paymentRequestId");
 
             if (paymentRequestId != null) {
-                PaymentRequest paymentRequest = paymentRequestRepository.findById(paymentRequestId)
-                        .orElseThrow(() -> new RuntimeException("Payment Request not found!"));
-
-                String initialState = paymentRequest.getStatus().name();
+                PaymentRequestStatus from = transition.getSource().getId();
+                PaymentRequestStatus to = state.getId();
 
-                paymentRequest.transitionToState(PaymentRequestStatus.valueOf(state.getId().name()));
+                if (!transitionMetrics.timePersist("payment", from, to, () -> paymentRequestRepository.transitionStatus(paymentRequestId, from, to))) {
+                    throw new StaleTransitionException("payment request", paymentRequestId, from, to);
+                }
 
-                paymentRequestRepository.save(paymentRequest);
+                domainEventBus.publishAfterCommit(TransitionEvent.of("payment", paymentRequestId, from, to, msg));
 
-                System.out.println("Payment Request Status Changed From: " + initialState + " to: " + state.getId().name());
+                System.out.println("Payment Request Status Changed From: " + from + " to: " + to);
             }
         });
     }
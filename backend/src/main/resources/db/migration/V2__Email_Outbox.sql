@@ -0,0 +1,20 @@
+-- V2__Email_Outbox.sql
+-- Emails are written here in the same transaction as the business change and sent later by EmailDispatcher
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+      id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+      recipient VARCHAR(255) NOT NULL,
+      subject VARCHAR(255) NOT NULL,
+      body TEXT NOT NULL,
+      status VARCHAR(20) NOT NULL DEFAULT 'PENDING'
+          CHECK (status IN ('PENDING', 'SENT', 'FAILED')),
+      attempts INTEGER NOT NULL DEFAULT 0,
+      next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+      last_error TEXT,
+      sent_at TIMESTAMPTZ,
+      created_at TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP,
+      updated_at TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Only unsent rows are ever polled, so keep the index to those
+CREATE INDEX IF NOT EXISTS idx_email_outbox_due ON email_outbox(next_attempt_at) WHERE status = 'PENDING';
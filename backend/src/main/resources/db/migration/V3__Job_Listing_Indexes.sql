@@ -0,0 +1,11 @@
+-- V3__Job_Listing_Indexes.sql
+-- Back the keyset-paginated job listings: one index per party, with and without the status filter,
+-- each ending in (created_at DESC, id DESC) so a page is a seek plus LIMIT rows read in index order
+
+CREATE INDEX idx_jobs_freelancer_created ON jobs (freelancer_id, created_at DESC, id DESC);
+CREATE INDEX idx_jobs_freelancer_status_created ON jobs (freelancer_id, status, created_at DESC, id DESC);
+
+CREATE INDEX idx_jobs_client_created ON jobs (client_id, created_at DESC, id DESC)
+    WHERE client_id IS NOT NULL;
+CREATE INDEX idx_jobs_client_status_created ON jobs (client_id, status, created_at DESC, id DESC)
+    WHERE client_id IS NOT NULL;
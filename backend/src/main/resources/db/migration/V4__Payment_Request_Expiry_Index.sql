@@ -0,0 +1,6 @@
+-- V4__Payment_Request_Expiry_Index.sql
+-- Back the payment request expiry sweeper: only PENDING rows can expire, so the index holds just those
+-- and the sweeper's "status = 'PENDING' AND expires_at <= now() ORDER BY expires_at" is a range scan
+
+CREATE INDEX idx_payment_requests_pending_expiry ON payment_requests (expires_at)
+    WHERE status = 'PENDING';
@@ -0,0 +1,25 @@
+-- V5__Stripe_Webhook_Inbox.sql
+-- Verified Stripe webhook events are stored here as received and applied later by StripeInboxDispatcher
+
+CREATE TABLE IF NOT EXISTS stripe_webhook_inbox (
+      id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+      stripe_event_id VARCHAR(255) NOT NULL,
+      event_type VARCHAR(100) NOT NULL,
+      ordering_key VARCHAR(255) NOT NULL,
+      payload TEXT NOT NULL,
+      stripe_created_at TIMESTAMPTZ NOT NULL,
+      status VARCHAR(20) NOT NULL DEFAULT 'PENDING'
+          CHECK (status IN ('PENDING', 'PROCESSED', 'IGNORED', 'FAILED')),
+      attempts INTEGER NOT NULL DEFAULT 0,
+      next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+      last_error TEXT,
+      processed_at TIMESTAMPTZ,
+      created_at TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP,
+      updated_at TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP,
+      CONSTRAINT uq_stripe_webhook_inbox_event UNIQUE (stripe_event_id)
+);
+
+-- Unfinished events in the order they are applied, both for polling and for the per-key ordering check
+CREATE INDEX IF NOT EXISTS idx_stripe_webhook_inbox_pending ON stripe_webhook_inbox(ordering_key, stripe_created_at, id)
+    WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_stripe_webhook_inbox_due ON stripe_webhook_inbox(next_attempt_at) WHERE status = 'PENDING';
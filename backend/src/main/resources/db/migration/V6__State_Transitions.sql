@@ -0,0 +1,18 @@
+-- V6__State_Transitions.sql
+-- Append-only history of status changes for jobs, milestones and payment requests, written in batches by TransitionAuditLog
+-- IF NOT EXISTS: a database that already has the table but no history row for V6 takes the migration as a no-op
+
+CREATE TABLE IF NOT EXISTS state_transitions (
+      id uuid PRIMARY KEY,
+      entity_type VARCHAR(30) NOT NULL,
+      entity_id uuid NOT NULL,
+      from_status VARCHAR(50),
+      to_status VARCHAR(50) NOT NULL,
+      event VARCHAR(50),
+      actor VARCHAR(255) NOT NULL,
+      headers JSONB NOT NULL DEFAULT '{}'::jsonb,
+      occurred_at TIMESTAMPTZ NOT NULL
+);
+
+-- One entity's timeline in order
+CREATE INDEX IF NOT EXISTS idx_state_transitions_entity ON state_transitions(entity_type, entity_id, occurred_at, id);
@@ -0,0 +1,12 @@
+-- V7__Users_Email_Upsert.sql
+-- Registration and guest creation upsert on the email, so uniqueness has to be case-insensitive:
+-- "Jo@x.com" and "jo@x.com" are the same person. The plain UNIQUE(email) is replaced by an index on lower(email),
+-- which is also the arbiter for INSERT ... ON CONFLICT ((lower(email))) and serves the lookups by email.
+-- Existing rows that only differ by case have to be merged by hand before this runs.
+
+CREATE UNIQUE INDEX uq_users_email_lower ON users (lower(email));
+
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_email_key;
+
+-- BaseEntity maps updated_at on every table, users was the only one created without it
+ALTER TABLE users ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ DEFAULT CURRENT_TIMESTAMP;
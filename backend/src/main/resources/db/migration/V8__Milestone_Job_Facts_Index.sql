@@ -0,0 +1,6 @@
+-- V8__Milestone_Job_Facts_Index.sql
+-- milestones.job_id had no index, so loading a job's milestones and the guard facts aggregate
+-- (MilestoneRepository.findJobFacts) scanned the table. INCLUDE covers every column the aggregate
+-- reads, so it is an index-only scan once the visibility map is current
+
+CREATE INDEX idx_milestones_job ON milestones (job_id) INCLUDE (status, sequence_order, amount);
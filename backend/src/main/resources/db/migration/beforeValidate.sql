@@ -1,6 +1,3 @@
-DROP TABLE IF EXISTS flyway_schema_history CASCADE;
-DROP TABLE IF EXISTS payment_requests CASCADE;
-DROP TABLE IF EXISTS milestones CASCADE;
-DROP TABLE IF EXISTS jobs CASCADE;
-DROP TABLE IF EXISTS users CASCADE;
-CREATE SCHEMA IF NOT EXISTS public;
\ No newline at end of file
+-- Runs before Flyway validates. Migrations are applied once and their history is kept, so
+-- state_transitions (append-only) survives restarts; nothing is dropped here.
+CREATE SCHEMA IF NOT EXISTS public;
@@ -0,0 +1,166 @@
+package com.trustbridge.AuditTests;
+
+import com.trustbridge.Common.Events.TransitionEvent;
+import com.trustbridge.Domain.Enums.PaymentRequestEvent;
+import com.trustbridge.Domain.Enums.PaymentRequestStatus;
+import com.trustbridge.Features.Audit.AuditProperties;
+import com.trustbridge.Features.Audit.StateTransitionRecord;
+import com.trustbridge.Features.Audit.TransitionAuditLog;
+import com.trustbridge.Features.Audit.TransitionAuditRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class TransitionAuditLogTest {
+
+    private TransitionAuditRepository transitionAuditRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private TransitionAuditLog auditLog;
+
+    private final UUID paymentId = UUID.randomUUID();
+
+    // The writer thread is never started, the tests call flush themselves
+    @BeforeEach
+    void setUp() {
+        transitionAuditRepository = mock(TransitionAuditRepository.class);
+
+        AuditProperties properties = new AuditProperties();
+        properties.setBatchSize(2);
+        properties.setQueueSize(2);
+
+        meterRegistry = new SimpleMeterRegistry();
+        auditLog = new TransitionAuditLog(transitionAuditRepository, properties, meterRegistry);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldWriteTheQueuedRecordsInOneInsert() {
+        // Arrange
+        auditLog.accept(TransitionEvent.of("payment", paymentId, PaymentRequestStatus.PENDING,
+                PaymentRequestStatus.PROCESSING, PaymentRequestEvent.INITIATE_PAYMENT, Map.of()));
+        auditLog.accept(TransitionEvent.of("payment", paymentId, PaymentRequestStatus.PROCESSING,
+                PaymentRequestStatus.PAID, PaymentRequestEvent.PAYMENT_SUCCESSFUL, Map.of()));
+
+        // Act
+        boolean written = auditLog.flush();
+
+        // Assert
+        ArgumentCaptor<List<StateTransitionRecord>> batch = ArgumentCaptor.forClass(List.class);
+        verify(transitionAuditRepository, times(1)).insertAll(batch.capture());
+        assertThat(written).isTrue();
+        assertThat(batch.getValue()).extracting(StateTransitionRecord::toStatus).containsExactly("PROCESSING", "PAID");
+        assertThat(meterRegistry.get("trustbridge.audit.written").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void accept_FromMessage_ShouldKeepEventActorAndCallerHeaders() {
+        // Arrange
+        Message<PaymentRequestEvent> message = MessageBuilder
+                .withPayload(PaymentRequestEvent.PAYMENT_SUCCESSFUL)
+                .setHeader("paymentRequestId", paymentId)
+                .setHeader("isPaymentSuccessful", true)
+                .setHeader("actor", "stripe")
+                .build();
+
+        // Act
+        auditLog.accept(TransitionEvent.of("payment", paymentId, PaymentRequestStatus.PROCESSING,
+                PaymentRequestStatus.PAID, message));
+        auditLog.flush();
+
+        // Assert
+        ArgumentCaptor<List<StateTransitionRecord>> batch = ArgumentCaptor.forClass(List.class);
+        verify(transitionAuditRepository).insertAll(batch.capture());
+        StateTransitionRecord record = batch.getValue().getFirst();
+        assertThat(record.entityId()).isEqualTo(paymentId);
+        assertThat(record.fromStatus()).isEqualTo("PROCESSING");
+        assertThat(record.toStatus()).isEqualTo("PAID");
+        assertThat(record.event()).isEqualTo("PAYMENT_SUCCESSFUL");
+        assertThat(record.actor()).isEqualTo("stripe");
+        assertThat(record.headers()).containsExactly(Map.entry("isPaymentSuccessful", "true"));
+    }
+
+    @Test
+    void accept_WithoutActorOrLogin_ShouldRecordSystem() {
+        // Act
+        TransitionEvent event = TransitionEvent.of("payment", paymentId, PaymentRequestStatus.PENDING,
+                PaymentRequestStatus.EXPIRED, PaymentRequestEvent.EXPIRE_REQUEST, Map.of());
+
+        // Assert
+        assertThat(event.actor()).isEqualTo(TransitionEvent.SYSTEM_ACTOR);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_WhenInsertFails_ShouldKeepTheBatchForTheNextFlush() {
+        // Arrange
+        auditLog.accept(TransitionEvent.of("payment", paymentId, PaymentRequestStatus.PENDING,
+                PaymentRequestStatus.CANCELLED, PaymentRequestEvent.CANCEL_REQUEST, Map.of()));
+        when(transitionAuditRepository.insertAll(anyList()))
+                .thenThrow(new RuntimeException("connection refused"))
+                .thenReturn(1);
+
+        // Act
+        boolean firstAttempt = auditLog.flush();
+        boolean retry = auditLog.flush();
+
+        // Assert
+        ArgumentCaptor<List<StateTransitionRecord>> batch = ArgumentCaptor.forClass(List.class);
+        verify(transitionAuditRepository, times(2)).insertAll(batch.capture());
+        assertThat(firstAttempt).isFalse();
+        assertThat(retry).isTrue();
+        assertThat(batch.getAllValues()).allSatisfy(records ->
+                assertThat(records).extracting(StateTransitionRecord::toStatus).containsExactly("CANCELLED"));
+        assertThat(meterRegistry.get("trustbridge.audit.failed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("trustbridge.audit.written").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void accept_WhenQueueIsFull_ShouldWriteTheRecordOnTheCallingThread() {
+        // Arrange: queue size is 2
+        auditLog.accept(TransitionEvent.of("payment", paymentId, PaymentRequestStatus.PENDING,
+                PaymentRequestStatus.PROCESSING, PaymentRequestEvent.INITIATE_PAYMENT, Map.of()));
+        auditLog.accept(TransitionEvent.of("payment", paymentId, PaymentRequestStatus.PROCESSING,
+                PaymentRequestStatus.FAILED, PaymentRequestEvent.PAYMENT_FAILED, Map.of()));
+
+        // Act
+        auditLog.accept(TransitionEvent.of("payment", paymentId, PaymentRequestStatus.FAILED,
+                PaymentRequestStatus.PROCESSING, PaymentRequestEvent.RETRY_PAYMENT, Map.of()));
+
+        // Assert
+        ArgumentCaptor<List<StateTransitionRecord>> batch = ArgumentCaptor.forClass(List.class);
+        verify(transitionAuditRepository).insertAll(batch.capture());
+        assertThat(batch.getValue()).extracting(StateTransitionRecord::event).containsExactly("RETRY_PAYMENT");
+        assertThat(meterRegistry.get("trustbridge.audit.spilled").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("trustbridge.audit.queued").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void accept_WhenQueueIsFullAndSpillFails_ShouldCountTheLossInsteadOfThrowing() {
+        // Arrange
+        doThrow(new RuntimeException("connection refused")).when(transitionAuditRepository).insertAll(anyList());
+        auditLog.accept(TransitionEvent.of("payment", paymentId, PaymentRequestStatus.PENDING,
+                PaymentRequestStatus.PROCESSING, PaymentRequestEvent.INITIATE_PAYMENT, Map.of()));
+        auditLog.accept(TransitionEvent.of("payment", paymentId, PaymentRequestStatus.PROCESSING,
+                PaymentRequestStatus.FAILED, PaymentRequestEvent.PAYMENT_FAILED, Map.of()));
+
+        // Act
+        auditLog.accept(TransitionEvent.of("payment", paymentId, PaymentRequestStatus.FAILED,
+                PaymentRequestStatus.PROCESSING, PaymentRequestEvent.RETRY_PAYMENT, Map.of()));
+
+        // Assert
+        assertThat(meterRegistry.get("trustbridge.audit.lost").counter().count()).isEqualTo(1);
+    }
+}
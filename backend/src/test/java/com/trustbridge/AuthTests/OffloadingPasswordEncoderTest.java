@@ -0,0 +1,101 @@
+package com.trustbridge.AuthTests;
+
+import com.trustbridge.Config.Security.OffloadingPasswordEncoder;
+import com.trustbridge.Config.Security.PasswordHashingBusyException;
+import com.trustbridge.Config.Security.PasswordHashingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OffloadingPasswordEncoderTest {
+
+    private PasswordHashingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private OffloadingPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PasswordHashingProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        properties.setMaxWait(Duration.ofSeconds(5));
+
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.close();
+        }
+    }
+
+    @Test
+    void encodeAndMatches_ShouldRunOnTheHashingPoolAndBeTimed() {
+        // Arrange
+        encoder = new OffloadingPasswordEncoder(new BCryptPasswordEncoder(4), properties, meterRegistry);
+
+        // Act
+        String hash = encoder.encode("correct horse");
+        boolean matches = encoder.matches("correct horse", hash);
+        boolean wrong = encoder.matches("battery staple", hash);
+
+        // Assert
+        assertThat(matches).isTrue();
+        assertThat(wrong).isFalse();
+        assertThat(meterRegistry.get("trustbridge.auth.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("trustbridge.auth.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void matches_QueueFull_ShouldRejectImmediately() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = mock(PasswordEncoder.class);
+        when(slow.matches(any(), any())).thenAnswer(invocation -> release.await(5, TimeUnit.SECONDS));
+        encoder = new OffloadingPasswordEncoder(slow, properties, meterRegistry);
+
+        // One hash running, one queued
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "hash"));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "hash"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password-hashing").gauge().value() < 1
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        // Act & Assert
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> encoder.matches("c", "hash")).isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.get("trustbridge.auth.password.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void upgradeEncoding_StoredWithLowerCost_ShouldAskForRehash() {
+        // Arrange
+        String oldHash = new BCryptPasswordEncoder(4).encode("secret");
+        encoder = new OffloadingPasswordEncoder(new BCryptPasswordEncoder(6), properties, meterRegistry);
+
+        // Act & Assert
+        assertThat(encoder.upgradeEncoding(oldHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("secret"))).isFalse();
+    }
+}
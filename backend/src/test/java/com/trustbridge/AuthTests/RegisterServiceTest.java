@@ -5,21 +5,25 @@ import com.trustbridge.Domain.Enums.UserRole;
 import com.trustbridge.Domain.Repositories.UserRepository;
 import com.trustbridge.Features.Auth.Dto.RegistrationDTO;
 import com.trustbridge.Features.Auth.RegistrationService;
+import com.trustbridge.Features.Auth.RoleNotAllowedException;
+import com.trustbridge.Features.Jobs.Dto.JobCreationDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.math.BigDecimal;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,45 +54,38 @@ class RegistrationServiceTest {
     @Test
     void register_WithValidData_ShouldCreateUser() {
         // Arrange
-        when(userRepository.findByEmail(validRegistrationDTO.email())).thenReturn(Optional.empty());
         when(passwordEncoder.encode(validRegistrationDTO.password())).thenReturn("encodedPassword");
-
-        ArgumentCaptor<Users> userCaptor = ArgumentCaptor.forClass(Users.class);
+        when(userRepository.upsertRegistered(any(UUID.class), anyString(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(Optional.of(Users.builder().build()));
 
         // Act
         registrationService.register(validRegistrationDTO);
 
         // Assert
-        verify(userRepository).findByEmail(validRegistrationDTO.email());
         verify(passwordEncoder).encode(validRegistrationDTO.password());
-        verify(userRepository).save(userCaptor.capture());
-
-        Users savedUser = userCaptor.getValue();
-        assertThat(savedUser.getEmail()).isEqualTo(validRegistrationDTO.email());
-        assertThat(savedUser.getPassword()).isEqualTo("encodedPassword");
-        assertThat(savedUser.getFirstName()).isEqualTo(validRegistrationDTO.firstName());
-        assertThat(savedUser.getLastName()).isEqualTo(validRegistrationDTO.lastName());
-        assertThat(savedUser.getUserRole()).isEqualTo(validRegistrationDTO.role());
+        verify(userRepository).upsertRegistered(
+                any(UUID.class),
+                eq(validRegistrationDTO.email()),
+                eq("encodedPassword"),
+                eq(validRegistrationDTO.firstName()),
+                eq(validRegistrationDTO.lastName()),
+                eq(validRegistrationDTO.role().name()));
+        verify(userRepository, never()).save(any(Users.class));
     }
 
     @Test
     void register_WithExistingEmail_ShouldThrowRuntimeException() {
         // Arrange
-        Users existingUser = Users.builder()
-                .email(validRegistrationDTO.email())
-                .build();
-
-        when(userRepository.findByEmail(validRegistrationDTO.email()))
-                .thenReturn(Optional.of(existingUser));
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.upsertRegistered(any(UUID.class), anyString(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> registrationService.register(validRegistrationDTO))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Email already in use");
 
-        verify(userRepository).findByEmail(validRegistrationDTO.email());
         verify(userRepository, never()).save(any(Users.class));
-        verify(passwordEncoder, never()).encode(anyString());
     }
 
     @Test
@@ -102,24 +99,22 @@ class RegistrationServiceTest {
                 rawPassword,
                 "Jane",
                 "Smith",
-                UserRole.role.ADMIN
+                UserRole.role.FREELANCER
         );
 
-        when(userRepository.findByEmail(dto.email())).thenReturn(Optional.empty());
         when(passwordEncoder.encode(rawPassword)).thenReturn(encodedPassword);
-
-        ArgumentCaptor<Users> userCaptor = ArgumentCaptor.forClass(Users.class);
+        when(userRepository.upsertRegistered(any(UUID.class), anyString(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(Optional.of(Users.builder().build()));
 
         // Act
         registrationService.register(dto);
 
         // Assert
         verify(passwordEncoder).encode(rawPassword);
-        verify(userRepository).save(userCaptor.capture());
-
-        Users savedUser = userCaptor.getValue();
-        assertThat(savedUser.getPassword()).isEqualTo(encodedPassword);
-        assertThat(savedUser.getPassword()).isNotEqualTo(rawPassword);
+        verify(userRepository).upsertRegistered(any(UUID.class), anyString(), eq(encodedPassword),
+                anyString(), anyString(), anyString());
+        verify(userRepository, never()).upsertRegistered(any(UUID.class), anyString(), eq(rawPassword),
+                anyString(), anyString(), anyString());
     }
 
     @Test
@@ -133,26 +128,25 @@ class RegistrationServiceTest {
                 UserRole.role.CLIENT
         );
 
-        when(userRepository.findByEmail(dto.email())).thenReturn(Optional.empty());
         when(passwordEncoder.encode(dto.password())).thenReturn("encoded");
-
-        ArgumentCaptor<Users> userCaptor = ArgumentCaptor.forClass(Users.class);
+        when(userRepository.upsertRegistered(any(UUID.class), anyString(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(Optional.of(Users.builder().build()));
 
         // Act
         registrationService.register(dto);
 
         // Assert
-        verify(userRepository).save(userCaptor.capture());
-
-        Users savedUser = userCaptor.getValue();
-        assertThat(savedUser.getEmail()).isEqualTo(dto.email());
-        assertThat(savedUser.getFirstName()).isEqualTo(dto.firstName());
-        assertThat(savedUser.getLastName()).isEqualTo(dto.lastName());
-        assertThat(savedUser.getUserRole()).isEqualTo(dto.role());
+        verify(userRepository).upsertRegistered(
+                any(UUID.class),
+                eq(dto.email()),
+                eq("encoded"),
+                eq(dto.firstName()),
+                eq(dto.lastName()),
+                eq(dto.role().name()));
     }
 
     @Test
-    void register_WithDifferentRole_ShouldSaveCorrectRole() {
+    void register_AsAdmin_ShouldBeRejected() {
         // Arrange
         RegistrationDTO adminDto = new RegistrationDTO(
                 "admin@example.com",
@@ -162,16 +156,63 @@ class RegistrationServiceTest {
                 UserRole.role.ADMIN
         );
 
-        when(userRepository.findByEmail(adminDto.email())).thenReturn(Optional.empty());
-        when(passwordEncoder.encode(adminDto.password())).thenReturn("encoded");
+        // Act & Assert
+        assertThatThrownBy(() -> registrationService.register(adminDto))
+                .isInstanceOf(RoleNotAllowedException.class);
+
+        verifyNoInteractions(userRepository, passwordEncoder);
+    }
+
+    @Test
+    void register_AsClientGuest_ShouldRegisterAsClient() {
+        // Arrange
+        RegistrationDTO guestDto = new RegistrationDTO(
+                "guest@example.com",
+                "guestPass",
+                "Guest",
+                "User",
+                UserRole.role.CLIENT_GUEST
+        );
+
+        when(passwordEncoder.encode(guestDto.password())).thenReturn("encoded");
+        when(userRepository.upsertRegistered(any(UUID.class), anyString(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(Optional.of(Users.builder().build()));
+
+        // Act
+        registrationService.register(guestDto);
+
+        // Assert
+        verify(userRepository).upsertRegistered(any(UUID.class), eq(guestDto.email()), anyString(), anyString(), anyString(),
+                eq(UserRole.role.CLIENT.name()));
+    }
 
-        ArgumentCaptor<Users> userCaptor = ArgumentCaptor.forClass(Users.class);
+    @Test
+    void createGuestUser_ShouldReturnUpsertedUser() {
+        // Arrange
+        JobCreationDto dto = new JobCreationDto(
+                "freelancer@example.com",
+                "client@example.com",
+                "07700900000",
+                "Sam",
+                "Client",
+                "Logo design",
+                "A new logo",
+                new BigDecimal("100.00"),
+                "GBP",
+                "GB",
+                null
+        );
+
+        Users existing = Users.builder().email("Client@Example.com").userRole(UserRole.role.CLIENT).build();
+        when(userRepository.upsertGuest(any(UUID.class), eq("client@example.com"), eq("07700900000"), eq("Sam"), eq("Client")))
+                .thenReturn(existing);
 
         // Act
-        registrationService.register(adminDto);
+        Users result = registrationService.createGuestUser(dto);
 
         // Assert
-        verify(userRepository).save(userCaptor.capture());
-        assertThat(userCaptor.getValue().getUserRole()).isEqualTo(UserRole.role.ADMIN);
+        assertThat(result).isSameAs(existing);
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(userRepository, never()).save(any(Users.class));
     }
-}
\ No newline at end of file
+}
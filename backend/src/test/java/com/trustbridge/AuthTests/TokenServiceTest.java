@@ -0,0 +1,171 @@
+package com.trustbridge.AuthTests;
+
+import com.trustbridge.Config.Security.InvalidTokenException;
+import com.trustbridge.Config.Security.TokenClaims;
+import com.trustbridge.Config.Security.TokenProperties;
+import com.trustbridge.Config.Security.TokenService;
+import com.trustbridge.Config.Security.TokenType;
+import com.trustbridge.Domain.Enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    private TokenProperties properties;
+    private TokenService tokenService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        properties = new TokenProperties();
+        properties.setSecret("an-example-secret-that-is-at-least-32-bytes");
+        properties.setAccessTtl(Duration.ofMinutes(15));
+
+        tokenService = new TokenService(properties, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void verify_IssuedAccessToken_ShouldReturnUserIdEmailAndRole() {
+        // Arrange
+        String token = tokenService.issue(userId, "user@example.com", UserRole.role.FREELANCER, TokenType.ACCESS);
+
+        // Act
+        TokenClaims claims = tokenService.verify(token, TokenType.ACCESS);
+
+        // Assert
+        assertThat(claims.userId()).isEqualTo(userId);
+        assertThat(claims.email()).isEqualTo("user@example.com");
+        assertThat(claims.role()).isEqualTo(UserRole.role.FREELANCER);
+        assertThat(claims.expiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(15)));
+    }
+
+    @Test
+    void verify_TamperedPayload_ShouldThrow() {
+        // Arrange
+        String token = tokenService.issue(userId, "user@example.com", UserRole.role.CLIENT, TokenType.ACCESS);
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1])).replace("CLIENT", "ADMIN");
+        String tampered = parts[0] + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes()) + "." + parts[2];
+
+        // Act & Assert
+        assertThatThrownBy(() -> tokenService.verify(tampered, TokenType.ACCESS))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void verify_SignedWithAnotherSecret_ShouldThrow() {
+        // Arrange
+        TokenProperties otherProperties = new TokenProperties();
+        otherProperties.setSecret("a-different-secret-that-is-also-32-bytes-long");
+        String token = new TokenService(otherProperties, Clock.fixed(NOW, ZoneOffset.UTC))
+                .issue(userId, "user@example.com", UserRole.role.CLIENT, TokenType.ACCESS);
+
+        // Act & Assert
+        assertThatThrownBy(() -> tokenService.verify(token, TokenType.ACCESS))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage("Invalid token signature");
+    }
+
+    @Test
+    void verify_AfterExpiry_ShouldThrow() {
+        // Arrange
+        String token = tokenService.issue(userId, "user@example.com", UserRole.role.CLIENT, TokenType.ACCESS);
+        TokenService later = new TokenService(properties, Clock.fixed(NOW.plus(Duration.ofMinutes(16)), ZoneOffset.UTC));
+
+        // Act & Assert
+        assertThatThrownBy(() -> later.verify(token, TokenType.ACCESS))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage("Token expired");
+    }
+
+    @Test
+    void verify_RefreshTokenUsedAsAccessToken_ShouldThrow() {
+        // Arrange
+        String refreshToken = tokenService.issue(userId, "user@example.com", UserRole.role.CLIENT, TokenType.REFRESH);
+
+        // Act & Assert
+        assertThatThrownBy(() -> tokenService.verify(refreshToken, TokenType.ACCESS))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage("Wrong token type");
+        assertThat(tokenService.verify(refreshToken, TokenType.REFRESH).userId()).isEqualTo(userId);
+    }
+
+    @Test
+    void verify_StreamToken_ShouldBeShortLivedAndNotPassAsAccessToken() {
+        // Arrange
+        properties.setStreamTtl(Duration.ofMinutes(1));
+        String streamToken = tokenService.issue(userId, "user@example.com", UserRole.role.CLIENT, TokenType.STREAM);
+
+        // Act
+        TokenClaims claims = tokenService.verify(streamToken, TokenType.STREAM);
+
+        // Assert
+        assertThat(claims.expiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(1)));
+        assertThatThrownBy(() -> tokenService.verify(streamToken, TokenType.ACCESS))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage("Wrong token type");
+    }
+
+    @Test
+    void verify_UnsignedAlgNoneToken_ShouldThrow() {
+        // Arrange
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String token = encoder.encodeToString("{\"alg\":\"none\"}".getBytes()) + "."
+                + encoder.encodeToString(("{\"sub\":\"" + userId + "\",\"typ\":\"ACCESS\"}").getBytes()) + ".";
+
+        // Act & Assert
+        assertThatThrownBy(() -> tokenService.verify(token, TokenType.ACCESS))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage("Malformed token");
+    }
+
+    @Test
+    void verify_FromManyThreadsAtOnce_ShouldAcceptEveryToken() throws Exception {
+        // Arrange: more signers than the Mac pool holds, so some get a Mac made just for them
+        String token = tokenService.issue(userId, "alex@test.com", UserRole.role.FREELANCER, TokenType.ACCESS);
+
+        // Act
+        List<TokenClaims> claims;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<TokenClaims>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                futures.add(executor.submit(() -> tokenService.verify(token, TokenType.ACCESS)));
+            }
+            claims = new ArrayList<>();
+            for (Future<TokenClaims> future : futures) {
+                claims.add(future.get());
+            }
+        }
+
+        // Assert
+        assertThat(claims).hasSize(200).allMatch(c -> c.userId().equals(userId));
+    }
+
+    @Test
+    void constructor_ShortSecret_ShouldFailFast() {
+        // Arrange
+        properties.setSecret("too-short");
+
+        // Act & Assert
+        assertThatThrownBy(() -> new TokenService(properties))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
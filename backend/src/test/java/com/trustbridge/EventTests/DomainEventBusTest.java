@@ -0,0 +1,218 @@
+package com.trustbridge.EventTests;
+
+import com.trustbridge.Common.Events.BackpressurePolicy;
+import com.trustbridge.Common.Events.DomainEventBus;
+import com.trustbridge.Common.Events.DomainEventHandler;
+import com.trustbridge.Common.Events.DomainEventProperties;
+import com.trustbridge.Common.Events.DomainEventSink;
+import com.trustbridge.Common.Events.RingBuffer;
+import com.trustbridge.Common.Events.RingBufferConsumer;
+import com.trustbridge.Common.Events.TransitionEvent;
+import com.trustbridge.Domain.Enums.PaymentRequestEvent;
+import com.trustbridge.Domain.Enums.PaymentRequestStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DomainEventBusTest {
+
+    private static final long IDLE_WAIT = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void publish_ShouldDeliverEveryEventToEveryHandlerInOrderAndInBatches() throws Exception {
+        // Arrange
+        RecordingHandler audit = new RecordingHandler("audit", 3, BackpressurePolicy.DROP);
+        RecordingHandler cache = new RecordingHandler("cache", 1, BackpressurePolicy.BLOCK);
+        DomainEventBus bus = new DomainEventBus(new DomainEventProperties(), List.of(audit, cache), List.of(),
+                new SimpleMeterRegistry());
+        bus.start();
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ids.add(UUID.randomUUID());
+        }
+
+        // Act
+        ids.forEach(id -> bus.publish(event(id)));
+        bus.stop();
+
+        // Assert
+        assertThat(audit.ids()).containsExactlyElementsOf(ids);
+        assertThat(cache.ids()).containsExactlyElementsOf(ids);
+        assertThat(audit.batchSizes).allSatisfy(size -> assertThat(size).isBetween(1, 3));
+        assertThat(cache.batchSizes).allSatisfy(size -> assertThat(size).isEqualTo(1));
+    }
+
+    @Test
+    void publish_ShouldHandEachEventToSinksOnThePublishingThread() {
+        // Arrange
+        List<UUID> accepted = new ArrayList<>();
+        DomainEventSink sink = event -> accepted.add(event.entityId());
+        DomainEventBus bus = new DomainEventBus(new DomainEventProperties(), List.of(), List.of(sink),
+                new SimpleMeterRegistry());
+        UUID id = UUID.randomUUID();
+
+        // Act
+        bus.publish(event(id));
+
+        // Assert: no consumer thread was started, the sink already has it
+        assertThat(accepted).containsExactly(id);
+    }
+
+    @Test
+    void publishAfterCommit_InsideTransaction_ShouldOnlyPublishOnCommit() throws Exception {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DomainEventBus bus = new DomainEventBus(new DomainEventProperties(), List.of(), List.of(), meterRegistry);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // Act
+            bus.publishAfterCommit(event(UUID.randomUUID()));
+
+            // Assert
+            assertThat(meterRegistry.get("trustbridge.events.published").counter().count()).isZero();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(meterRegistry.get("trustbridge.events.published").counter().count()).isEqualTo(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void dropConsumer_WhenLapped_ShouldSkipToOldestEventAndCountTheRest() throws Exception {
+        // Arrange
+        RingBuffer<Integer> ring = new RingBuffer<>(4, 0);
+        CountDownLatch inHandler = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> seen = new CopyOnWriteArrayList<>();
+
+        RingBufferConsumer<Integer> consumer = new RingBufferConsumer<>("slow", ring, BackpressurePolicy.DROP, 1,
+                IDLE_WAIT, batch -> {
+                    seen.addAll(batch);
+                    inHandler.countDown();
+                    await(release);
+                });
+        consumer.start();
+
+        // Act
+        ring.publish(0);
+        inHandler.await(5, TimeUnit.SECONDS);
+        for (int i = 1; i <= 10; i++) {
+            assertThat(ring.publish(i)).isTrue();
+        }
+        release.countDown();
+        consumer.stop(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(seen).containsExactly(0, 7, 8, 9, 10);
+        assertThat(consumer.dropped()).isEqualTo(6);
+        assertThat(consumer.handled()).isEqualTo(5);
+    }
+
+    @Test
+    void blockConsumer_WhenFull_ShouldMakePublisherWaitThenReportOverrun() throws Exception {
+        // Arrange
+        RingBuffer<Integer> ring = new RingBuffer<>(2, TimeUnit.MILLISECONDS.toNanos(20));
+        CountDownLatch inHandler = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        RingBufferConsumer<Integer> consumer = new RingBufferConsumer<>("stuck", ring, BackpressurePolicy.BLOCK, 1,
+                IDLE_WAIT, batch -> {
+                    inHandler.countDown();
+                    await(release);
+                });
+        consumer.start();
+
+        ring.publish(0);
+        inHandler.await(5, TimeUnit.SECONDS);
+
+        // Act
+        boolean second = ring.publish(1);
+        boolean third = ring.publish(2);
+        long start = System.nanoTime();
+        boolean fourth = ring.publish(3);
+        long waited = System.nanoTime() - start;
+
+        release.countDown();
+        consumer.stop(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(second).isTrue();
+        assertThat(third).isTrue();
+        assertThat(fourth).isFalse();
+        assertThat(waited).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    void ringBuffer_WithCapacityNotPowerOfTwo_ShouldThrow() {
+        // Act & Assert
+        assertThatThrownBy(() -> new RingBuffer<Integer>(6, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static TransitionEvent event(UUID id) {
+        return TransitionEvent.of("payment", id, PaymentRequestStatus.PENDING, PaymentRequestStatus.CANCELLED,
+                PaymentRequestEvent.CANCEL_REQUEST, Map.of());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class RecordingHandler implements DomainEventHandler {
+
+        private final String name;
+        private final int batchSize;
+        private final BackpressurePolicy policy;
+        private final List<TransitionEvent> events = new CopyOnWriteArrayList<>();
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        private RecordingHandler(String name, int batchSize, BackpressurePolicy policy) {
+            this.name = name;
+            this.batchSize = batchSize;
+            this.policy = policy;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public int batchSize() {
+            return batchSize;
+        }
+
+        @Override
+        public BackpressurePolicy backpressure() {
+            return policy;
+        }
+
+        @Override
+        public void onEvents(List<TransitionEvent> batch) {
+            batchSizes.add(batch.size());
+            events.addAll(batch);
+        }
+
+        List<UUID> ids() {
+            return events.stream().map(TransitionEvent::entityId).toList();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.trustbridge.JobTests;
+
+import com.trustbridge.Domain.Enums.JobStatus.jobStatus;
+import com.trustbridge.Domain.Projections.InviteProjection;
+import com.trustbridge.Domain.Projections.InviteVersion;
+import com.trustbridge.Domain.Repositories.JobRepository;
+import com.trustbridge.Features.Jobs.Service.InviteCacheProperties;
+import com.trustbridge.Features.Jobs.Service.InviteQueryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class InviteQueryServiceTest {
+
+    private JobRepository jobRepository;
+    private InviteQueryService inviteQueryService;
+
+    private final String token = "invite-token";
+    private final UUID jobId = UUID.randomUUID();
+    private final OffsetDateTime created = OffsetDateTime.parse("2026-01-01T10:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        inviteQueryService = new InviteQueryService(jobRepository, new InviteCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void findByToken_ShouldOnlyHitTheRepositoryOnce() {
+        // Arrange
+        when(jobRepository.findInviteByToken(token)).thenReturn(Optional.of(invite(jobStatus.PENDING_ACCEPTANCE)));
+
+        // Act
+        inviteQueryService.findByToken(token);
+        Optional<InviteProjection> second = inviteQueryService.findByToken(token);
+
+        // Assert
+        verify(jobRepository, times(1)).findInviteByToken(token);
+        assertThat(second).isPresent();
+        assertThat(second.get().freelancerName()).isEqualTo("Alex Smith");
+        assertThat(second.get().clientEmail()).isNull();
+        assertThat(second.get().hasRegisteredClient()).isFalse();
+    }
+
+    @Test
+    void findByToken_WithUnknownToken_ShouldNotCacheTheMiss() {
+        // Arrange
+        when(jobRepository.findInviteByToken("missing")).thenReturn(Optional.empty());
+
+        // Act
+        inviteQueryService.findByToken("missing");
+        Optional<InviteProjection> result = inviteQueryService.findByToken("missing");
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(jobRepository, times(2)).findInviteByToken("missing");
+    }
+
+    @Test
+    void invalidateJob_ShouldReloadTheInviteOnNextView() {
+        // Arrange
+        when(jobRepository.findInviteByToken(token)).thenReturn(
+                Optional.of(invite(jobStatus.PENDING_ACCEPTANCE)),
+                Optional.of(invite(jobStatus.AWAITING_PAYMENT)));
+        inviteQueryService.findByToken(token);
+
+        // Act
+        inviteQueryService.invalidateJob(jobId);
+        Optional<InviteProjection> result = inviteQueryService.findByToken(token);
+
+        // Assert
+        verify(jobRepository, times(2)).findInviteByToken(token);
+        assertThat(result.get().status()).isEqualTo(jobStatus.AWAITING_PAYMENT);
+    }
+
+    @Test
+    void findByToken_WithTheCachedVersion_ShouldNotReload() {
+        // Arrange
+        InviteProjection invite = invite(jobStatus.PENDING_ACCEPTANCE, created);
+        when(jobRepository.findInviteByToken(token)).thenReturn(Optional.of(invite));
+        inviteQueryService.findByToken(token);
+
+        // Act
+        inviteQueryService.findByToken(token, invite.version());
+
+        // Assert
+        verify(jobRepository, times(1)).findInviteByToken(token);
+    }
+
+    @Test
+    void findByToken_WithANewerVersion_ShouldReloadTheInvite() {
+        // Arrange
+        OffsetDateTime changed = created.plusMinutes(5);
+        when(jobRepository.findInviteByToken(token)).thenReturn(
+                Optional.of(invite(jobStatus.PENDING_ACCEPTANCE, created)),
+                Optional.of(invite(jobStatus.AWAITING_PAYMENT, changed)));
+        inviteQueryService.findByToken(token);
+
+        // Act
+        Optional<InviteProjection> result = inviteQueryService.findByToken(token,
+                new InviteVersion(jobId, changed, created, null));
+
+        // Assert
+        verify(jobRepository, times(2)).findInviteByToken(token);
+        assertThat(result.get().status()).isEqualTo(jobStatus.AWAITING_PAYMENT);
+    }
+
+    private InviteProjection invite(jobStatus status) {
+        return invite(status, created);
+    }
+
+    private InviteProjection invite(jobStatus status, OffsetDateTime jobUpdatedAt) {
+        return new InviteProjection(jobId, token, "Logo Design", "A new logo",
+                "Alex", "Smith", "freelancer@test.com",
+                new BigDecimal("250.00"), "GBP", null, null, status,
+                jobUpdatedAt, created, null);
+    }
+}
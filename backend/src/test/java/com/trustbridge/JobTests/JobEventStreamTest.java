@@ -0,0 +1,114 @@
+package com.trustbridge.JobTests;
+
+import com.trustbridge.Common.Events.TransitionEvent;
+import com.trustbridge.Domain.Enums.MilestoneEvent.milestoneEvent;
+import com.trustbridge.Domain.Enums.MilestoneStatus.milestoneStatus;
+import com.trustbridge.Domain.Repositories.MilestoneRepository;
+import com.trustbridge.Domain.Repositories.PaymentRequestRepository;
+import com.trustbridge.Features.Jobs.Service.JobEventReplay;
+import com.trustbridge.Features.Jobs.Service.JobEventStream;
+import com.trustbridge.Features.Jobs.Service.JobEventStreamProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class JobEventStreamTest {
+
+    private MilestoneRepository milestoneRepository;
+    private JobEventStreamProperties properties;
+    private JobEventStream jobEventStream;
+
+    private final UUID jobId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        milestoneRepository = mock(MilestoneRepository.class);
+        properties = new JobEventStreamProperties();
+        properties.setMaxConnections(1);
+        jobEventStream = new JobEventStream(properties, milestoneRepository, mock(PaymentRequestRepository.class),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void subscribe_AtMaxConnections_ShouldReturnEmpty() {
+        // Arrange
+        jobEventStream.subscribe(jobId, null);
+
+        // Act
+        Optional<SseEmitter> second = jobEventStream.subscribe(UUID.randomUUID(), null);
+
+        // Assert
+        assertThat(second).isEmpty();
+        assertThat(jobEventStream.connections()).isEqualTo(1);
+    }
+
+    @Test
+    void subscribe_AfterTheFirstStreamCloses_ShouldFreeItsSlot() {
+        // Arrange
+        SseEmitter first = jobEventStream.subscribe(jobId, null).orElseThrow();
+
+        // Act
+        jobEventStream.closeAll();
+        Optional<SseEmitter> second = jobEventStream.subscribe(jobId, null);
+
+        // Assert
+        assertThat(second).isPresent();
+        assertThat(first).isNotSameAs(second.get());
+        assertThat(jobEventStream.connections()).isEqualTo(1);
+    }
+
+    @Test
+    void onEvents_WithNoSubscribers_ShouldNotLookUpTheMilestonesJob() {
+        // Arrange
+        TransitionEvent event = TransitionEvent.of("milestone", UUID.randomUUID(),
+                milestoneStatus.AWAITING_PAYMENT, milestoneStatus.CANCELLED, milestoneEvent.CANCEL_MILESTONE, Map.of());
+
+        // Act
+        jobEventStream.onEvents(List.of(event));
+
+        // Assert
+        verifyNoInteractions(milestoneRepository);
+    }
+
+    @Test
+    void since_ShouldOnlyReturnTheJobsEventsAfterLastSeen() {
+        // Arrange
+        UUID otherJob = UUID.randomUUID();
+        JobEventReplay replay = new JobEventReplay(8);
+        for (long sequence = 0; sequence < 6; sequence++) {
+            replay.append(new JobEventReplay.Entry(sequence, "job", UUID.randomUUID(),
+                    sequence % 2 == 0 ? jobId : otherJob, "{}"));
+        }
+
+        // Act
+        Optional<List<JobEventReplay.Entry>> missed = replay.since(1, jobId, entry -> null);
+
+        // Assert
+        assertThat(missed).isPresent();
+        assertThat(missed.get()).extracting(JobEventReplay.Entry::sequence).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void since_WhenTheGapHasBeenOverwritten_ShouldAskForAResync() {
+        // Arrange
+        JobEventReplay replay = new JobEventReplay(4);
+        for (long sequence = 0; sequence < 10; sequence++) {
+            replay.append(new JobEventReplay.Entry(sequence, "job", jobId, jobId, "{}"));
+        }
+
+        // Act
+        Optional<List<JobEventReplay.Entry>> missed = replay.since(2, jobId, entry -> null);
+
+        // Assert
+        assertThat(missed).isEmpty();
+    }
+}
@@ -0,0 +1,158 @@
+package com.trustbridge.JobTests;
+
+import com.trustbridge.Domain.Entities.Jobs;
+import com.trustbridge.Domain.Entities.Milestones;
+import com.trustbridge.Domain.Entities.Users;
+import com.trustbridge.Domain.Enums.JobStatus.jobStatus;
+import com.trustbridge.Domain.Enums.MilestoneStatus.milestoneStatus;
+import com.trustbridge.Domain.Enums.UserRole.role;
+import com.trustbridge.Domain.Projections.JobMilestoneFacts;
+import com.trustbridge.Domain.Repositories.JobRepository;
+import com.trustbridge.Domain.Repositories.MilestoneRepository;
+import com.trustbridge.Domain.Repositories.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class JobMilestoneFactsQueryTest {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private MilestoneRepository milestoneRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Jobs job;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Users freelancer = userRepository.save(Users.builder()
+                .email("freelancer@test.com")
+                .firstName("Alex")
+                .lastName("Smith")
+                .userRole(role.FREELANCER)
+                .build());
+        job = jobRepository.save(Jobs.builder()
+                .freelancer(freelancer)
+                .title("Logo Design")
+                .description("A new logo")
+                .totalAmount(new BigDecimal("1000.00"))
+                .currency("GBP")
+                .inviteToken("facts-token")
+                .status(jobStatus.IN_PROGRESS)
+                .build());
+    }
+
+    @Test
+    void findJobFacts_ShouldAggregateEveryMilestoneInOneStatement() {
+        // Arrange
+        milestone(1, "250.00", milestoneStatus.PAID_OUT);
+        milestone(2, "250.00", milestoneStatus.APPROVED);
+        milestone(3, "300.00", milestoneStatus.SUBMITTED);
+        milestone(4, "200.00", milestoneStatus.CANCELLED);
+        clearPersistenceContext();
+
+        // Act
+        JobMilestoneFacts facts = milestoneRepository.findJobFacts(job.getId());
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(facts.total()).isEqualTo(4);
+        assertThat(facts.active()).isEqualTo(3);
+        assertThat(facts.allSubmitted()).isTrue();
+        assertThat(facts.allApproved()).isFalse();
+        assertThat(facts.settled()).isEqualTo(1);
+        assertThat(facts.isFirstMilestoneFunded()).isTrue();
+        assertThat(facts.hasOpenDispute()).isFalse();
+        assertThat(facts.outstandingAmount()).isEqualByComparingTo("550.00");
+    }
+
+    @Test
+    void findJobFacts_WhenTheFirstMilestoneIsUnpaid_ShouldNotBeFunded() {
+        // Arrange
+        milestone(1, "500.00", milestoneStatus.AWAITING_PAYMENT);
+        milestone(2, "500.00", milestoneStatus.LOCKED);
+        clearPersistenceContext();
+
+        // Act
+        JobMilestoneFacts facts = milestoneRepository.findJobFacts(job.getId());
+
+        // Assert
+        assertThat(facts.isFirstMilestoneFunded()).isFalse();
+        assertThat(facts.allSubmitted()).isFalse();
+        assertThat(facts.outstandingAmount()).isEqualByComparingTo("1000.00");
+    }
+
+    @Test
+    void findJobFacts_WithNoMilestones_ShouldNotPassAnyAllCheck() {
+        // Act
+        JobMilestoneFacts facts = milestoneRepository.findJobFacts(job.getId());
+
+        // Assert
+        assertThat(facts.total()).isZero();
+        assertThat(facts.allSubmitted()).isFalse();
+        assertThat(facts.allSettled()).isFalse();
+        assertThat(facts.outstandingAmount()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void findJobFacts_WithAResolvedDispute_ShouldCountItAsFinished() {
+        // Arrange: the dispute on milestone 2 was resolved, the rest went through normally
+        milestone(1, "400.00", milestoneStatus.PAID_OUT);
+        milestone(2, "600.00", milestoneStatus.DISPUTE_RESOLVED);
+        clearPersistenceContext();
+
+        // Act
+        JobMilestoneFacts facts = milestoneRepository.findJobFacts(job.getId());
+
+        // Assert
+        assertThat(facts.hasOpenDispute()).isFalse();
+        assertThat(facts.allSubmitted()).isTrue();
+        assertThat(facts.allApproved()).isTrue();
+        assertThat(facts.allSettled()).isTrue();
+        assertThat(facts.outstandingAmount()).isEqualByComparingTo("0");
+    }
+
+    private void milestone(int sequence, String amount, milestoneStatus status) {
+        milestoneRepository.save(Milestones.builder()
+                .job(job)
+                .title("Milestone " + sequence)
+                .amount(new BigDecimal(amount))
+                .sequenceOrder(sequence)
+                .status(status)
+                .build());
+    }
+
+    private void clearPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+}
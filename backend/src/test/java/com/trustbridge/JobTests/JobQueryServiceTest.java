@@ -0,0 +1,94 @@
+package com.trustbridge.JobTests;
+
+import com.trustbridge.Domain.Entities.Jobs;
+import com.trustbridge.Domain.Enums.JobStatus.jobStatus;
+import com.trustbridge.Domain.Repositories.JobRepository;
+import com.trustbridge.Features.Jobs.Dto.JobPageDto;
+import com.trustbridge.Features.Jobs.Service.InvalidCursorException;
+import com.trustbridge.Features.Jobs.Service.JobQueryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JobQueryServiceTest {
+
+    private JobRepository jobRepository;
+    private JobQueryService jobQueryService;
+
+    private final UUID freelancerId = UUID.randomUUID();
+    private final OffsetDateTime now = OffsetDateTime.parse("2026-01-10T12:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        jobQueryService = new JobQueryService(jobRepository);
+    }
+
+    @Test
+    void freelancerJobs_WithMoreRowsThanPageSize_ShouldReturnCursorOfLastRow() {
+        // Arrange
+        Jobs newest = job(now);
+        Jobs middle = job(now.minusMinutes(1));
+        Jobs oldest = job(now.minusMinutes(2));
+        when(jobRepository.findFreelancerPage(eq(freelancerId), any(), any(), eq(3)))
+                .thenReturn(List.of(newest, middle, oldest));
+
+        // Act
+        JobPageDto page = jobQueryService.freelancerJobs(freelancerId, null, null, 2);
+
+        // Assert
+        assertThat(page.jobs()).extracting(dto -> dto.id()).containsExactly(newest.getId(), middle.getId());
+        assertThat(page.nextCursor()).isNotNull();
+
+        // Act - next page starts strictly after the middle row
+        when(jobRepository.findFreelancerPage(freelancerId, middle.getCreatedAt(), middle.getId(), 3))
+                .thenReturn(List.of(oldest));
+        JobPageDto next = jobQueryService.freelancerJobs(freelancerId, null, page.nextCursor(), 2);
+
+        // Assert
+        assertThat(next.jobs()).extracting(dto -> dto.id()).containsExactly(oldest.getId());
+        assertThat(next.nextCursor()).isNull();
+    }
+
+    @Test
+    void freelancerJobs_WithStatus_ShouldUseTheStatusQuery() {
+        // Arrange
+        when(jobRepository.findFreelancerPageByStatus(eq(freelancerId), eq("IN_PROGRESS"), any(), any(), anyInt()))
+                .thenReturn(List.of());
+
+        // Act
+        JobPageDto page = jobQueryService.freelancerJobs(freelancerId, jobStatus.IN_PROGRESS, null, null);
+
+        // Assert
+        assertThat(page.jobs()).isEmpty();
+        verify(jobRepository).findFreelancerPageByStatus(eq(freelancerId), eq("IN_PROGRESS"), any(), any(), eq(21));
+        verify(jobRepository, never()).findFreelancerPage(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void freelancerJobs_WithGarbageCursor_ShouldRejectIt() {
+        assertThatThrownBy(() -> jobQueryService.freelancerJobs(freelancerId, null, "not-a-cursor", 20))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private Jobs job(OffsetDateTime createdAt) {
+        Jobs job = Jobs.builder()
+                .title("Job " + createdAt)
+                .totalAmount(BigDecimal.TEN)
+                .currency("GBP")
+                .status(jobStatus.IN_PROGRESS)
+                .build();
+        job.setId(UUID.randomUUID());
+        job.setCreatedAt(createdAt);
+        return job;
+    }
+}
@@ -0,0 +1,178 @@
+package com.trustbridge.JobTests;
+
+import com.trustbridge.Domain.Entities.Jobs;
+import com.trustbridge.Domain.Entities.Users;
+import com.trustbridge.Domain.Enums.JobStatus.jobStatus;
+import com.trustbridge.Domain.Enums.UserRole.role;
+import com.trustbridge.Domain.Projections.InviteProjection;
+import com.trustbridge.Domain.Projections.InviteVersion;
+import com.trustbridge.Domain.Projections.JobListingVersion;
+import com.trustbridge.Domain.Repositories.JobRepository;
+import com.trustbridge.Domain.Repositories.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class JobRepositoryProjectionTest {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Users freelancer;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        freelancer = userRepository.save(user("freelancer@test.com", role.FREELANCER));
+    }
+
+    @Test
+    void findInviteByToken_ShouldLoadJobFreelancerAndClientInOneStatement() {
+        // Arrange
+        Users client = userRepository.save(user("client@test.com", role.CLIENT));
+        jobRepository.save(job("token-with-client", client));
+        clearPersistenceContext();
+
+        // Act
+        Optional<InviteProjection> invite = jobRepository.findInviteByToken("token-with-client");
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(invite).isPresent();
+        assertThat(invite.get().freelancerName()).isEqualTo("Alex Smith");
+        assertThat(invite.get().clientEmail()).isEqualTo("client@test.com");
+        assertThat(invite.get().hasRegisteredClient()).isTrue();
+    }
+
+    @Test
+    void findInviteByToken_WithNoClient_ShouldStillReturnTheInvite() {
+        // Arrange
+        jobRepository.save(job("token-without-client", null));
+        clearPersistenceContext();
+
+        // Act
+        Optional<InviteProjection> invite = jobRepository.findInviteByToken("token-without-client");
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(invite).isPresent();
+        assertThat(invite.get().clientEmail()).isNull();
+        assertThat(invite.get().hasRegisteredClient()).isFalse();
+    }
+
+    @Test
+    void findInviteByToken_WithUnknownToken_ShouldReturnEmpty() {
+        // Act
+        Optional<InviteProjection> invite = jobRepository.findInviteByToken("missing");
+
+        // Assert
+        assertThat(invite).isEmpty();
+    }
+
+    @Test
+    void findInviteVersionByToken_ShouldMatchTheInviteUntilTheJobChanges() {
+        // Arrange
+        Jobs job = jobRepository.save(job("token-versioned", null));
+        clearPersistenceContext();
+        InviteVersion before = jobRepository.findInviteByToken("token-versioned").orElseThrow().version();
+
+        // Act
+        Optional<InviteVersion> unchanged = jobRepository.findInviteVersionByToken("token-versioned");
+        Jobs loaded = jobRepository.findById(job.getId()).orElseThrow();
+        loaded.setStatus(jobStatus.AWAITING_PAYMENT);
+        clearPersistenceContext();
+        Optional<InviteVersion> changed = jobRepository.findInviteVersionByToken("token-versioned");
+
+        // Assert
+        assertThat(unchanged).contains(before);
+        assertThat(changed).isPresent();
+        assertThat(changed.get().jobUpdatedAt()).isAfter(before.jobUpdatedAt());
+    }
+
+    @Test
+    void findFreelancerListingVersion_ShouldCountTheFreelancersJobs() {
+        // Arrange
+        jobRepository.save(job("token-one", null));
+        jobRepository.save(job("token-two", null));
+        clearPersistenceContext();
+
+        // Act
+        JobListingVersion version = jobRepository.findFreelancerListingVersion(freelancer.getId());
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(version.jobs()).isEqualTo(2);
+        assertThat(version.lastUpdatedAt()).isNotNull();
+    }
+
+    @Test
+    void isParty_ShouldOnlyMatchTheJobsFreelancerAndClient() {
+        // Arrange
+        Users client = userRepository.save(user("client@test.com", role.CLIENT));
+        Users stranger = userRepository.save(user("stranger@test.com", role.CLIENT));
+        Jobs withClient = jobRepository.save(job("token-parties", client));
+        Jobs withoutClient = jobRepository.save(job("token-no-client", null));
+        clearPersistenceContext();
+
+        // Act & Assert
+        assertThat(jobRepository.isParty(withClient.getId(), freelancer.getId())).isTrue();
+        assertThat(jobRepository.isParty(withClient.getId(), client.getId())).isTrue();
+        assertThat(jobRepository.isParty(withClient.getId(), stranger.getId())).isFalse();
+        assertThat(jobRepository.isParty(withoutClient.getId(), freelancer.getId())).isTrue();
+    }
+
+    private void clearPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private Users user(String email, role userRole) {
+        return Users.builder()
+                .email(email)
+                .firstName("Alex")
+                .lastName("Smith")
+                .userRole(userRole)
+                .build();
+    }
+
+    private Jobs job(String token, Users client) {
+        return Jobs.builder()
+                .freelancer(freelancer)
+                .client(client)
+                .title("Logo Design")
+                .description("A new logo")
+                .totalAmount(new BigDecimal("250.00"))
+                .currency("GBP")
+                .inviteToken(token)
+                .status(jobStatus.PENDING_ACCEPTANCE)
+                .build();
+    }
+}
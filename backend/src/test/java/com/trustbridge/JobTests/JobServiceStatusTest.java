@@ -0,0 +1,81 @@
+package com.trustbridge.JobTests;
+
+import com.trustbridge.Common.Events.DomainEventBus;
+import com.trustbridge.Common.Events.DomainEventProperties;
+import com.trustbridge.Common.Events.DomainEventSink;
+import com.trustbridge.Common.Events.TransitionEvent;
+import com.trustbridge.Domain.Entities.Jobs;
+import com.trustbridge.Domain.Enums.JobStatus.jobStatus;
+import com.trustbridge.Domain.Repositories.JobRepository;
+import com.trustbridge.Domain.Repositories.UserRepository;
+import com.trustbridge.Features.Auth.RegistrationService;
+import com.trustbridge.Features.Jobs.Service.JobService;
+import com.trustbridge.Features.Jobs.Service.MilestoneService;
+import com.trustbridge.Features.Notifications.EmailService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class JobServiceStatusTest {
+
+    private JobRepository jobRepository;
+    private JobService jobService;
+    private final List<TransitionEvent> published = new CopyOnWriteArrayList<>();
+
+    private final UUID jobId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        DomainEventSink recorder = published::add;
+        DomainEventBus domainEventBus = new DomainEventBus(new DomainEventProperties(), List.of(), List.of(recorder),
+                new SimpleMeterRegistry());
+
+        jobService = new JobService(jobRepository, mock(UserRepository.class), mock(RegistrationService.class),
+                mock(EmailService.class), mock(MilestoneService.class), domainEventBus);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void jobStatusToCancelled_ShouldOnlyAnnounceTheChangeOnCommit() {
+        // Arrange
+        Jobs job = Jobs.builder()
+                .title("Logo Design")
+                .totalAmount(BigDecimal.TEN)
+                .currency("GBP")
+                .status(jobStatus.AWAITING_PAYMENT)
+                .build();
+        job.setId(jobId);
+        when(jobRepository.findById(jobId)).thenReturn(Optional.of(job));
+
+        // Act
+        jobService.jobStatusToCancelled(jobId);
+
+        // Assert: the invite cache is evicted from this event, so nothing may go out before commit
+        assertThat(published).isEmpty();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(published).singleElement().satisfies(event -> {
+            assertThat(event.entityType()).isEqualTo("job");
+            assertThat(event.entityId()).isEqualTo(jobId);
+            assertThat(event.from()).isEqualTo(jobStatus.AWAITING_PAYMENT);
+            assertThat(event.to()).isEqualTo(jobStatus.CANCELLED);
+        });
+    }
+}
@@ -0,0 +1,115 @@
+package com.trustbridge.JobTests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trustbridge.Domain.Values.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    void of_WithDifferentScales_ShouldBeEqual() {
+        // Arrange
+        Money oneDecimal = Money.of(new BigDecimal("100.0"), "GBP");
+        Money twoDecimals = Money.of(new BigDecimal("100.00"), "GBP");
+
+        // Act & Assert
+        assertThat(oneDecimal).isEqualTo(twoDecimals);
+        assertThat(oneDecimal.compareTo(twoDecimals)).isZero();
+        assertThat(oneDecimal.minorUnits()).isEqualTo(10000);
+    }
+
+    @Test
+    void of_WithSubMinorUnitAmount_ShouldThrow() {
+        // Act & Assert
+        assertThatThrownBy(() -> Money.of(new BigDecimal("10.001"), "GBP"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("GBP");
+    }
+
+    @Test
+    void of_WithZeroDecimalCurrency_ShouldUseWholeUnits() {
+        // Act
+        Money yen = Money.of(new BigDecimal("1500"), "JPY");
+
+        // Assert
+        assertThat(yen.minorUnits()).isEqualTo(1500);
+        assertThat(yen.toBigDecimal()).isEqualByComparingTo("1500");
+    }
+
+    @Test
+    void plus_WithDifferentCurrency_ShouldThrow() {
+        // Arrange
+        Money pounds = Money.ofMinor(100, "GBP");
+        Money euros = Money.ofMinor(100, "EUR");
+
+        // Act & Assert
+        assertThatThrownBy(() -> pounds.plus(euros))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Currency mismatch: GBP and EUR");
+    }
+
+    @Test
+    void plus_WhenOverflowing_ShouldThrow() {
+        // Arrange
+        Money max = Money.ofMinor(Long.MAX_VALUE, "GBP");
+
+        // Act & Assert
+        assertThatThrownBy(() -> max.plus(Money.ofMinor(1, "GBP")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void split_WithRemainder_ShouldGiveLeftoverToFirstPartsAndKeepTotal() {
+        // Arrange
+        Money total = Money.of(new BigDecimal("100.00"), "GBP");
+
+        // Act
+        Money[] parts = total.split(3);
+
+        // Assert
+        assertThat(parts).extracting(Money::minorUnits).containsExactly(3334L, 3333L, 3333L);
+        assertThat(Arrays.stream(parts).reduce(Money.zero("GBP"), Money::plus)).isEqualTo(total);
+    }
+
+    @Test
+    void split_WithNegativeAmount_ShouldKeepTotal() {
+        // Arrange
+        Money refund = Money.ofMinor(-100, "GBP");
+
+        // Act
+        Money[] parts = refund.split(3);
+
+        // Assert
+        assertThat(parts).extracting(Money::minorUnits).containsExactly(-34L, -33L, -33L);
+    }
+
+    @Test
+    void json_ShouldRoundTripInMonetaryAmountShape() throws Exception {
+        // Arrange
+        ObjectMapper mapper = new ObjectMapper();
+        Money money = Money.of(new BigDecimal("1250.5"), "GBP");
+
+        // Act
+        String json = mapper.writeValueAsString(money);
+        Money read = mapper.readValue("{\"amount\": 1250.50, \"currency\": \"GBP\"}", Money.class);
+
+        // Assert
+        assertThat(json).isEqualTo("{\"amount\":1250.50,\"currency\":\"GBP\"}");
+        assertThat(read).isEqualTo(money);
+    }
+
+    @Test
+    void toMonetaryAmount_ShouldRoundTrip() {
+        // Arrange
+        Money money = Money.of(new BigDecimal("99.95"), "EUR");
+
+        // Act & Assert
+        assertThat(Money.from(money.toMonetaryAmount())).isEqualTo(money);
+    }
+}
@@ -0,0 +1,112 @@
+package com.trustbridge.NotificationTests;
+
+import com.trustbridge.Domain.Entities.EmailOutbox;
+import com.trustbridge.Features.Notifications.EmailDispatcher;
+import com.trustbridge.Features.Notifications.EmailOutboxProperties;
+import com.trustbridge.Features.Notifications.EmailOutboxService;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EmailDispatcherTest {
+
+    private JavaMailSender mailSender;
+    private EmailOutboxService emailOutboxService;
+    private ThreadPoolTaskExecutor executor;
+    private EmailDispatcher emailDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = mock(JavaMailSender.class);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        emailOutboxService = mock(EmailOutboxService.class);
+
+        EmailOutboxProperties properties = new EmailOutboxProperties();
+        properties.setWorkers(1);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+
+        emailDispatcher = new EmailDispatcher(mailSender, emailOutboxService, executor, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dispatch_ShouldSendTheWholeBatchInOneCallAndMarkItSent() {
+        // Arrange
+        EmailOutbox first = email("client1@test.com");
+        EmailOutbox second = email("client2@test.com");
+        when(emailOutboxService.claimDue()).thenReturn(List.of(first, second), List.of());
+
+        // Act
+        emailDispatcher.dispatch();
+
+        // Assert
+        ArgumentCaptor<Collection<UUID>> sent = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Map<UUID, String>> failures = ArgumentCaptor.forClass(Map.class);
+        verify(emailOutboxService, timeout(2000)).recordResults(sent.capture(), failures.capture());
+        verify(mailSender, times(1)).send(any(MimeMessage[].class));
+        assertThat(sent.getValue()).containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(failures.getValue()).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dispatch_WhenSomeMessagesAreRejected_ShouldOnlyRetryThoseMessages() {
+        // Arrange
+        EmailOutbox delivered = email("good@test.com");
+        EmailOutbox rejected = email("bad@test.com");
+        when(emailOutboxService.claimDue()).thenReturn(List.of(delivered, rejected), List.of());
+
+        doAnswer(invocation -> {
+            MimeMessage[] messages = invocation.getArgument(0);
+            throw new MailSendException(Map.of(messages[1], new RuntimeException("550 mailbox unavailable")));
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        // Act
+        emailDispatcher.dispatch();
+
+        // Assert
+        ArgumentCaptor<Collection<UUID>> sent = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Map<UUID, String>> failures = ArgumentCaptor.forClass(Map.class);
+        verify(emailOutboxService, timeout(2000)).recordResults(sent.capture(), failures.capture());
+
+        assertThat(sent.getValue()).containsExactly(delivered.getId());
+        assertThat(failures.getValue()).containsExactly(Map.entry(rejected.getId(), "550 mailbox unavailable"));
+    }
+
+    private EmailOutbox email(String recipient) {
+        EmailOutbox email = EmailOutbox.builder()
+                .recipient(recipient)
+                .subject("Project Proposal")
+                .body("<p>Hello</p>")
+                .nextAttemptAt(OffsetDateTime.now())
+                .build();
+        email.setId(UUID.randomUUID());
+        return email;
+    }
+}
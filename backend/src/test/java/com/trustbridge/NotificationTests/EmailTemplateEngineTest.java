@@ -0,0 +1,69 @@
+package com.trustbridge.NotificationTests;
+
+import com.trustbridge.Features.Notifications.EmailTemplate;
+import com.trustbridge.Features.Notifications.EmailTemplateEngine;
+import com.trustbridge.Features.Notifications.RenderedEmail;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailTemplateEngineTest {
+
+    private EmailTemplateEngine emailTemplateEngine;
+
+    @BeforeEach
+    void setUp() {
+        emailTemplateEngine = new EmailTemplateEngine();
+    }
+
+    @Test
+    void render_ShouldFillPlaceholdersAndInlinePartials() {
+        // Act
+        RenderedEmail email = emailTemplateEngine.render(EmailTemplate.JOB_INVITE, Map.of(
+                "name", "Sam",
+                "title", "Logo Design",
+                "description", "A new logo",
+                "currency", "GBP",
+                "amount", "250.00",
+                "link", "https://localhost:8080/invite/abc",
+                "linkText", "Review"));
+
+        // Assert
+        assertThat(email.subject()).isEqualTo("Project Proposal: Logo Design");
+        assertThat(email.body())
+                .startsWith("<html>")
+                .contains("Hi <strong>Sam</strong>")
+                .contains("GBP 250.00")
+                .contains("TrustBridge")
+                .contains("href=\"https://localhost:8080/invite/abc\"")
+                .doesNotContain("{{");
+    }
+
+    @Test
+    void render_ShouldEscapeUserSuppliedValuesInTheBodyOnly() {
+        // Act
+        RenderedEmail email = emailTemplateEngine.render(EmailTemplate.JOB_INVITE, Map.of(
+                "title", "<script>alert('x')</script> & co",
+                "link", "https://localhost:8080/invite/a?b=1&c=\"2\""));
+
+        // Assert
+        assertThat(email.body())
+                .contains("&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; co")
+                .contains("https://localhost:8080/invite/a?b=1&amp;c=&quot;2&quot;")
+                .doesNotContain("<script>");
+        assertThat(email.subject()).isEqualTo("Project Proposal: <script>alert('x')</script> & co");
+    }
+
+    @Test
+    void render_ShouldLoadEveryRegisteredTemplate() {
+        for (EmailTemplate template : EmailTemplate.values()) {
+            RenderedEmail email = emailTemplateEngine.render(template, Map.of("title", "Job", "milestoneTitle", "Design"));
+
+            assertThat(email.body()).contains("</html>").doesNotContain("{{");
+            assertThat(email.subject()).doesNotContain("{{");
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.trustbridge.PaymentTests;
+
+import com.stripe.Stripe;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Builds checkout session events the way Stripe sends them, signed with a local secret,
+ * so the webhook can be tested without the Stripe CLI or network access.
+ */
+final class FakeStripeEvents {
+
+    static final String SECRET = "whsec_local_test_secret";
+
+    private FakeStripeEvents() { }
+
+    static String checkoutSessionEvent(String eventId, String type, String sessionId,
+                                       UUID paymentRequestId, String paymentStatus) {
+        String clientReference = paymentRequestId != null ? "\"" + paymentRequestId + "\"" : "null";
+
+        return """
+                {
+                  "id": "%s",
+                  "object": "event",
+                  "api_version": "%s",
+                  "created": %d,
+                  "livemode": false,
+                  "pending_webhooks": 1,
+                  "type": "%s",
+                  "data": {
+                    "object": {
+                      "id": "%s",
+                      "object": "checkout.session",
+                      "client_reference_id": %s,
+                      "payment_status": "%s",
+                      "metadata": {}
+                    }
+                  }
+                }
+                """.formatted(eventId, Stripe.API_VERSION, Instant.now().getEpochSecond(), type,
+                sessionId, clientReference, paymentStatus);
+    }
+
+    // A handled type whose data object is not a checkout session
+    static String paymentIntentEvent(String eventId, String type) {
+        return """
+                {
+                  "id": "%s",
+                  "object": "event",
+                  "api_version": "%s",
+                  "created": %d,
+                  "livemode": false,
+                  "pending_webhooks": 1,
+                  "type": "%s",
+                  "data": {
+                    "object": {
+                      "id": "pi_test_1",
+                      "object": "payment_intent",
+                      "metadata": {}
+                    }
+                  }
+                }
+                """.formatted(eventId, Stripe.API_VERSION, Instant.now().getEpochSecond(), type);
+    }
+
+    static String sign(String payload) {
+        return sign(payload, Instant.now().getEpochSecond(), SECRET);
+    }
+
+    // Same scheme as Stripe-Signature: t=<unix seconds>,v1=hex(HMAC-SHA256(secret, "<t>.<payload>"))
+    static String sign(String payload, long timestamp, String secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] signature = mac.doFinal((timestamp + "." + payload).getBytes(StandardCharsets.UTF_8));
+            return "t=" + timestamp + ",v1=" + HexFormat.of().formatHex(signature);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
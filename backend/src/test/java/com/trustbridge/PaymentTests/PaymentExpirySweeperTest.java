@@ -0,0 +1,90 @@
+package com.trustbridge.PaymentTests;
+
+import com.trustbridge.Common.StateMachine.TransitionMetrics;
+import com.trustbridge.Features.Payments.Service.PaymentExpiryProperties;
+import com.trustbridge.Features.Payments.Service.PaymentExpiryService;
+import com.trustbridge.Features.Payments.Service.PaymentExpirySweeper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class PaymentExpirySweeperTest {
+
+    private PaymentExpiryService paymentExpiryService;
+    private PaymentExpiryProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentExpirySweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        paymentExpiryService = mock(PaymentExpiryService.class);
+        when(paymentExpiryService.oldestOverdue()).thenReturn(Optional.empty());
+
+        properties = new PaymentExpiryProperties();
+        properties.setChunkSize(2);
+        properties.setMaxChunksPerRun(3);
+
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new PaymentExpirySweeper(paymentExpiryService, properties,
+                new TransitionMetrics(meterRegistry), meterRegistry);
+    }
+
+    @Test
+    void sweep_ShortChunk_ShouldStopAndCountEveryExpiredRequest() {
+        // Arrange
+        when(paymentExpiryService.expireChunk()).thenReturn(ids(2), ids(1), ids(2));
+
+        // Act
+        sweeper.sweep();
+
+        // Assert
+        verify(paymentExpiryService, times(2)).expireChunk();
+        assertThat(meterRegistry.get("trustbridge.payments.expiry.expired").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("trustbridge.statemachine.transitions")
+                .tags("machine", "payment", "source", "PENDING", "target", "EXPIRED", "outcome", "accepted")
+                .counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void sweep_BacklogLargerThanOneRun_ShouldStopAtMaxChunksAndReportLag() {
+        // Arrange
+        when(paymentExpiryService.expireChunk()).thenReturn(ids(2));
+        when(paymentExpiryService.oldestOverdue()).thenReturn(Optional.of(OffsetDateTime.now().minusMinutes(5)));
+
+        // Act
+        sweeper.sweep();
+
+        // Assert
+        verify(paymentExpiryService, times(3)).expireChunk();
+        assertThat(meterRegistry.get("trustbridge.payments.expiry.lag").timeGauge().value(TimeUnit.MINUTES))
+                .isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void sweep_NothingDue_ShouldExpireNothingAndReportNoLag() {
+        // Arrange
+        when(paymentExpiryService.expireChunk()).thenReturn(List.of());
+
+        // Act
+        sweeper.sweep();
+
+        // Assert
+        verify(paymentExpiryService, times(1)).expireChunk();
+        assertThat(meterRegistry.get("trustbridge.payments.expiry.expired").counter().count()).isZero();
+        assertThat(meterRegistry.get("trustbridge.payments.expiry.lag").timeGauge().value(TimeUnit.MILLISECONDS)).isZero();
+    }
+
+    private static List<UUID> ids(int count) {
+        return Stream.generate(UUID::randomUUID).limit(count).toList();
+    }
+}
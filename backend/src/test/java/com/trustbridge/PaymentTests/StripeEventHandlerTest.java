@@ -0,0 +1,118 @@
+package com.trustbridge.PaymentTests;
+
+import com.trustbridge.Common.StateMachine.TransitionResult;
+import com.trustbridge.Domain.Entities.StripeWebhookEvent;
+import com.trustbridge.Domain.Enums.PaymentRequestEvent;
+import com.trustbridge.Domain.Enums.PaymentRequestStatus;
+import com.trustbridge.Domain.Enums.StripeWebhookEventStatus;
+import com.trustbridge.Domain.Repositories.PaymentRequestRepository;
+import com.trustbridge.Features.Payments.Service.PaymentStateService;
+import com.trustbridge.Features.Payments.Service.StripeEventHandler;
+import com.trustbridge.Features.Payments.Service.StripeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class StripeEventHandlerTest {
+
+    private PaymentStateService paymentStateService;
+    private PaymentRequestRepository paymentRequestRepository;
+    private StripeEventHandler stripeEventHandler;
+
+    private final UUID paymentId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        paymentStateService = mock(PaymentStateService.class);
+        paymentRequestRepository = mock(PaymentRequestRepository.class);
+        when(paymentRequestRepository.existsById(paymentId)).thenReturn(true);
+
+        stripeEventHandler = new StripeEventHandler(paymentStateService, paymentRequestRepository);
+    }
+
+    @Test
+    void apply_CompletedAndPaid_ShouldInitiateThenMarkSuccessful() {
+        // Arrange
+        when(paymentStateService.fireEvent(eq(paymentId), eq(PaymentRequestEvent.INITIATE_PAYMENT), anyMap()))
+                .thenReturn(accepted(PaymentRequestStatus.PROCESSING));
+        when(paymentStateService.fireEvent(eq(paymentId), eq(PaymentRequestEvent.PAYMENT_SUCCESSFUL), anyMap()))
+                .thenReturn(accepted(PaymentRequestStatus.PAID));
+
+        // Act
+        StripeWebhookEventStatus status = stripeEventHandler.apply(
+                inboxEvent(StripeService.SESSION_COMPLETED, paymentId, "paid"));
+
+        // Assert
+        assertThat(status).isEqualTo(StripeWebhookEventStatus.PROCESSED);
+        InOrder inOrder = inOrder(paymentStateService);
+        inOrder.verify(paymentStateService).fireEvent(paymentId, PaymentRequestEvent.INITIATE_PAYMENT,
+                Map.of("isPaymentInitiated", true));
+        inOrder.verify(paymentStateService).fireEvent(paymentId, PaymentRequestEvent.PAYMENT_SUCCESSFUL,
+                Map.of("isPaymentSuccessful", true));
+    }
+
+    @Test
+    void apply_CompletedButUnpaid_ShouldOnlyInitiate() {
+        // Arrange
+        when(paymentStateService.fireEvent(eq(paymentId), eq(PaymentRequestEvent.INITIATE_PAYMENT), anyMap()))
+                .thenReturn(accepted(PaymentRequestStatus.PROCESSING));
+
+        // Act
+        StripeWebhookEventStatus status = stripeEventHandler.apply(
+                inboxEvent(StripeService.SESSION_COMPLETED, paymentId, "unpaid"));
+
+        // Assert
+        assertThat(status).isEqualTo(StripeWebhookEventStatus.PROCESSED);
+        verify(paymentStateService, never()).fireEvent(eq(paymentId), eq(PaymentRequestEvent.PAYMENT_SUCCESSFUL), anyMap());
+    }
+
+    @Test
+    void apply_AlreadyPaid_ShouldBeIgnored() {
+        // Arrange
+        when(paymentStateService.fireEvent(eq(paymentId), any(PaymentRequestEvent.class), anyMap()))
+                .thenReturn(new TransitionResult<>(paymentId, TransitionResult.Outcome.DENIED, PaymentRequestStatus.PAID));
+
+        // Act
+        StripeWebhookEventStatus status = stripeEventHandler.apply(
+                inboxEvent(StripeService.ASYNC_PAYMENT_SUCCEEDED, paymentId, "paid"));
+
+        // Assert
+        assertThat(status).isEqualTo(StripeWebhookEventStatus.IGNORED);
+    }
+
+    @Test
+    void apply_UnknownPaymentRequest_ShouldBeIgnoredWithoutFiringEvents() {
+        // Arrange
+        when(paymentRequestRepository.findIdByStripeSessionId("cs_test_1")).thenReturn(Optional.empty());
+
+        // Act
+        StripeWebhookEventStatus status = stripeEventHandler.apply(
+                inboxEvent(StripeService.ASYNC_PAYMENT_FAILED, null, "unpaid"));
+
+        // Assert
+        assertThat(status).isEqualTo(StripeWebhookEventStatus.IGNORED);
+        verifyNoInteractions(paymentStateService);
+    }
+
+    private TransitionResult<PaymentRequestStatus> accepted(PaymentRequestStatus state) {
+        return new TransitionResult<>(paymentId, TransitionResult.Outcome.ACCEPTED, state);
+    }
+
+    private static StripeWebhookEvent inboxEvent(String type, UUID paymentRequestId, String paymentStatus) {
+        return StripeWebhookEvent.builder()
+                .stripeEventId("evt_1")
+                .eventType(type)
+                .payload(FakeStripeEvents.checkoutSessionEvent("evt_1", type, "cs_test_1", paymentRequestId, paymentStatus))
+                .build();
+    }
+}
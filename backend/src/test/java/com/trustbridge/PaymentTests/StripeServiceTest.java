@@ -0,0 +1,141 @@
+package com.trustbridge.PaymentTests;
+
+import com.stripe.exception.SignatureVerificationException;
+import com.trustbridge.Domain.Repositories.StripeWebhookEventRepository;
+import com.trustbridge.Features.Payments.Service.StripeService;
+import com.trustbridge.Features.Payments.Service.StripeWebhookProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class StripeServiceTest {
+
+    private StripeWebhookEventRepository stripeWebhookEventRepository;
+    private StripeService stripeService;
+
+    private final UUID paymentRequestId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        stripeWebhookEventRepository = mock(StripeWebhookEventRepository.class);
+
+        StripeWebhookProperties properties = new StripeWebhookProperties();
+        properties.setSecret(FakeStripeEvents.SECRET);
+
+        stripeService = new StripeService(stripeWebhookEventRepository, properties);
+    }
+
+    @Test
+    void receive_ValidSignature_ShouldStoreEventKeyedByPaymentRequest() throws Exception {
+        // Arrange
+        String payload = FakeStripeEvents.checkoutSessionEvent("evt_1", StripeService.SESSION_COMPLETED,
+                "cs_test_1", paymentRequestId, "paid");
+        when(stripeWebhookEventRepository.insertIfAbsent(any(), anyString(), anyString(), anyString(), anyString(), any()))
+                .thenReturn(1);
+
+        // Act
+        boolean stored = stripeService.receive(payload, FakeStripeEvents.sign(payload));
+
+        // Assert
+        assertThat(stored).isTrue();
+        verify(stripeWebhookEventRepository).insertIfAbsent(any(), eq("evt_1"), eq(StripeService.SESSION_COMPLETED),
+                eq(paymentRequestId.toString()), eq(payload), any());
+    }
+
+    @Test
+    void receive_Redelivery_ShouldReturnFalse() throws Exception {
+        // Arrange
+        String payload = FakeStripeEvents.checkoutSessionEvent("evt_1", StripeService.SESSION_COMPLETED,
+                "cs_test_1", paymentRequestId, "paid");
+        when(stripeWebhookEventRepository.insertIfAbsent(any(), anyString(), anyString(), anyString(), anyString(), any()))
+                .thenReturn(1, 0);
+
+        // Act
+        stripeService.receive(payload, FakeStripeEvents.sign(payload));
+        boolean second = stripeService.receive(payload, FakeStripeEvents.sign(payload));
+
+        // Assert
+        assertThat(second).isFalse();
+    }
+
+    @Test
+    void receive_NoClientReference_ShouldOrderBySessionId() throws Exception {
+        // Arrange
+        String payload = FakeStripeEvents.checkoutSessionEvent("evt_2", StripeService.ASYNC_PAYMENT_FAILED,
+                "cs_test_2", null, "unpaid");
+
+        // Act
+        stripeService.receive(payload, FakeStripeEvents.sign(payload));
+
+        // Assert
+        verify(stripeWebhookEventRepository).insertIfAbsent(any(), eq("evt_2"), eq(StripeService.ASYNC_PAYMENT_FAILED),
+                eq("cs_test_2"), eq(payload), any());
+    }
+
+    @Test
+    void receive_TamperedPayload_ShouldThrowAndStoreNothing() {
+        // Arrange
+        String payload = FakeStripeEvents.checkoutSessionEvent("evt_1", StripeService.SESSION_COMPLETED,
+                "cs_test_1", paymentRequestId, "paid");
+        String signature = FakeStripeEvents.sign(payload);
+        String tampered = payload.replace("\"paid\"", "\"unpaid\"");
+
+        // Act & Assert
+        assertThatThrownBy(() -> stripeService.receive(tampered, signature))
+                .isInstanceOf(SignatureVerificationException.class);
+        verifyNoInteractions(stripeWebhookEventRepository);
+    }
+
+    @Test
+    void receive_SignedOutsideTolerance_ShouldThrow() {
+        // Arrange
+        String payload = FakeStripeEvents.checkoutSessionEvent("evt_1", StripeService.SESSION_COMPLETED,
+                "cs_test_1", paymentRequestId, "paid");
+        long anHourAgo = Instant.now().minusSeconds(3600).getEpochSecond();
+
+        // Act & Assert
+        assertThatThrownBy(() -> stripeService.receive(payload,
+                FakeStripeEvents.sign(payload, anHourAgo, FakeStripeEvents.SECRET)))
+                .isInstanceOf(SignatureVerificationException.class);
+        verifyNoInteractions(stripeWebhookEventRepository);
+    }
+
+    @Test
+    void receive_UnhandledType_ShouldAcknowledgeWithoutStoring() throws Exception {
+        // Arrange
+        String payload = FakeStripeEvents.checkoutSessionEvent("evt_3", "checkout.session.expired",
+                "cs_test_3", paymentRequestId, "unpaid");
+
+        // Act
+        boolean stored = stripeService.receive(payload, FakeStripeEvents.sign(payload));
+
+        // Assert
+        assertThat(stored).isFalse();
+        verifyNoInteractions(stripeWebhookEventRepository);
+    }
+
+    @Test
+    void receive_HandledTypeWithoutCheckoutSession_ShouldStoreItAsIgnored() throws Exception {
+        // Arrange
+        String payload = FakeStripeEvents.paymentIntentEvent("evt_4", StripeService.SESSION_COMPLETED);
+
+        // Act
+        boolean stored = stripeService.receive(payload, FakeStripeEvents.sign(payload));
+
+        // Assert
+        assertThat(stored).isFalse();
+        verify(stripeWebhookEventRepository).insertIgnoredIfAbsent(any(), eq("evt_4"),
+                eq(StripeService.SESSION_COMPLETED), eq(payload), any(), anyString());
+        verify(stripeWebhookEventRepository, never())
+                .insertIfAbsent(any(), anyString(), anyString(), anyString(), anyString(), any());
+    }
+}
@@ -0,0 +1,96 @@
+package com.trustbridge.StateMachineTests;
+
+import com.trustbridge.Common.StateMachine.CompiledTransitionEngine;
+import com.trustbridge.Common.StateMachine.PooledTransitionEngine;
+import com.trustbridge.Common.StateMachine.StateMachinePool;
+import com.trustbridge.Common.StateMachine.StateMachineProperties;
+import com.trustbridge.Common.StateMachine.TransitionResult;
+import com.trustbridge.Domain.Enums.JobEvent.jobEvent;
+import com.trustbridge.Domain.Enums.JobStatus.jobStatus;
+import com.trustbridge.Domain.Projections.JobMilestoneFacts;
+import com.trustbridge.Features.Jobs.StateMachine.JobStateMachineConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.statemachine.config.StateMachineFactory;
+import org.springframework.statemachine.support.StateMachineInterceptorAdapter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The compiled table must make the same decisions as the Spring machine it was read from:
+ * every job status x event, with the guards' headers both passing and failing.
+ */
+class CompiledTransitionEngineParityTest {
+
+    private AnnotationConfigApplicationContext context;
+    private CompiledTransitionEngine<jobStatus, jobEvent> compiled;
+    private PooledTransitionEngine<jobStatus, jobEvent> pooled;
+
+    private final UUID jobId = UUID.randomUUID();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(JobStateMachineConfig.class);
+        StateMachineFactory<jobStatus, jobEvent> factory = context.getBean("JobStateMachineFactory", StateMachineFactory.class);
+        StateMachineInterceptorAdapter<jobStatus, jobEvent> interceptor = new StateMachineInterceptorAdapter<>() { };
+
+        compiled = new CompiledTransitionEngine<>("job", jobStatus.class, jobEvent.class, factory, interceptor);
+        pooled = new PooledTransitionEngine<>(new StateMachinePool<>("job", factory, interceptor,
+                new StateMachineProperties.Pool(), new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void fire_EveryStatusAndEvent_ShouldMatchTheSpringMachine() {
+        // Arrange: guards see either everything done and approved, or nothing
+        JobMilestoneFacts allDone = new JobMilestoneFacts(2, 0, 2, 2, 2, 0, 1, BigDecimal.ZERO);
+        JobMilestoneFacts noneDone = new JobMilestoneFacts(2, 0, 0, 0, 0, 0, 0, new BigDecimal("1000.00"));
+
+        List<String> mismatches = new ArrayList<>();
+        int accepted = 0;
+
+        // Act
+        for (jobStatus status : jobStatus.values()) {
+            for (jobEvent event : jobEvent.values()) {
+                for (Message<jobEvent> message : List.of(message(event, true, allDone), message(event, false, noneDone))) {
+                    TransitionResult<jobStatus> expected = pooled.fire(jobId, status, message).block();
+                    TransitionResult<jobStatus> actual = compiled.fireNow(jobId, status, message);
+
+                    if (!expected.equals(actual)) {
+                        mismatches.add(status + " + " + event + ": expected " + expected + " but was " + actual);
+                    }
+                    if (actual.isAccepted()) {
+                        accepted++;
+                    }
+                }
+            }
+        }
+
+        // Assert
+        assertThat(mismatches).isEmpty();
+        assertThat(accepted).isPositive();
+    }
+
+    private Message<jobEvent> message(jobEvent event, boolean isClientApproving, JobMilestoneFacts facts) {
+        return MessageBuilder.withPayload(event)
+                .setHeader("jobId", jobId)
+                .setHeader("isClientApproving", isClientApproving)
+                .setHeader(JobMilestoneFacts.HEADER, facts)
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.trustbridge.StateMachineTests;
+
+import com.trustbridge.Common.StateMachine.CompiledTransitionEngine;
+import com.trustbridge.Common.StateMachine.TransitionResult;
+import com.trustbridge.Domain.Enums.JobEvent.jobEvent;
+import com.trustbridge.Domain.Enums.JobStatus.jobStatus;
+import com.trustbridge.Domain.Projections.JobMilestoneFacts;
+import com.trustbridge.Features.Jobs.StateMachine.JobStateMachineConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.statemachine.config.StateMachineFactory;
+import org.springframework.statemachine.support.StateMachineInterceptor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CompiledTransitionEngineTest {
+
+    private AnnotationConfigApplicationContext context;
+    private StateMachineInterceptor<jobStatus, jobEvent> interceptor;
+    private CompiledTransitionEngine<jobStatus, jobEvent> engine;
+
+    private final UUID jobId = UUID.randomUUID();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(JobStateMachineConfig.class);
+        StateMachineFactory<jobStatus, jobEvent> factory = context.getBean("JobStateMachineFactory", StateMachineFactory.class);
+        interceptor = mock(StateMachineInterceptor.class);
+
+        engine = new CompiledTransitionEngine<>("job", jobStatus.class, jobEvent.class, factory, interceptor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void fire_WithUnguardedTransition_ShouldAcceptAndCallInterceptor() {
+        // Act
+        TransitionResult<jobStatus> result = engine.fireNow(jobId, jobStatus.DRAFT, message(jobEvent.PUBLISH_OFFER, false));
+
+        // Assert
+        assertThat(result.outcome()).isEqualTo(TransitionResult.Outcome.ACCEPTED);
+        assertThat(result.state()).isEqualTo(jobStatus.PENDING_ACCEPTANCE);
+        assertThat(result.entityId()).isEqualTo(jobId);
+        verify(interceptor).preStateChange(
+                argThat(state -> state.getId() == jobStatus.PENDING_ACCEPTANCE), any(), any(), any(), any());
+    }
+
+    @Test
+    void fire_WithPassingGuard_ShouldAccept() {
+        // Act
+        TransitionResult<jobStatus> result = engine.fire(jobId, jobStatus.PENDING_ACCEPTANCE, message(jobEvent.ACCEPT_OFFER, true)).block();
+
+        // Assert
+        assertThat(result).isNotNull();
+        assertThat(result.isAccepted()).isTrue();
+        assertThat(result.state()).isEqualTo(jobStatus.AWAITING_PAYMENT);
+    }
+
+    @Test
+    void fire_WithFailingGuard_ShouldDenyAndLeaveStateUntouched() {
+        // Act
+        TransitionResult<jobStatus> result = engine.fireNow(jobId, jobStatus.PENDING_ACCEPTANCE, message(jobEvent.ACCEPT_OFFER, false));
+
+        // Assert
+        assertThat(result.outcome()).isEqualTo(TransitionResult.Outcome.DENIED);
+        assertThat(result.state()).isEqualTo(jobStatus.PENDING_ACCEPTANCE);
+        verifyNoInteractions(interceptor);
+    }
+
+    @Test
+    void fire_WithNoTransitionForEvent_ShouldDeny() {
+        // Act
+        TransitionResult<jobStatus> result = engine.fireNow(jobId, jobStatus.PAID_OUT, message(jobEvent.CANCEL_JOB, false));
+
+        // Assert
+        assertThat(result.outcome()).isEqualTo(TransitionResult.Outcome.DENIED);
+        assertThat(engine.hasTransition(jobStatus.PAID_OUT, jobEvent.CANCEL_JOB)).isFalse();
+        verify(interceptor, never()).preStateChange(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void resolve_ShouldNotCallInterceptor() {
+        // Act
+        jobStatus target = engine.resolve(jobStatus.DRAFT, message(jobEvent.CANCEL_JOB, false));
+
+        // Assert
+        assertThat(target).isEqualTo(jobStatus.CANCELLED);
+        verify(interceptor, never()).preStateChange(any(), eq(null), any(), any(), any());
+        verifyNoInteractions(interceptor);
+    }
+
+    @Test
+    void resolve_WithAllActiveMilestonesSubmitted_ShouldMoveToSubmitted() {
+        // Arrange: 3 milestones, one cancelled, the other two submitted
+        JobMilestoneFacts facts = new JobMilestoneFacts(3, 1, 2, 0, 0, 0, 1, new BigDecimal("500.00"));
+
+        // Act
+        jobStatus target = engine.resolve(jobStatus.IN_PROGRESS, message(jobEvent.ALL_MILESTONES_COMPLETED, facts));
+
+        // Assert
+        assertThat(target).isEqualTo(jobStatus.SUBMITTED);
+    }
+
+    @Test
+    void resolve_WithAMilestoneStillInProgress_ShouldDeny() {
+        // Arrange
+        JobMilestoneFacts facts = new JobMilestoneFacts(3, 0, 2, 0, 0, 0, 1, new BigDecimal("750.00"));
+
+        // Act
+        jobStatus target = engine.resolve(jobStatus.IN_PROGRESS, message(jobEvent.ALL_MILESTONES_COMPLETED, facts));
+
+        // Assert
+        assertThat(target).isNull();
+    }
+
+    @Test
+    void resolve_WithoutMilestoneFacts_ShouldDeny() {
+        // Act
+        jobStatus target = engine.resolve(jobStatus.AWAITING_PAYMENT, message(jobEvent.FUNDS_DEPOSITED, false));
+
+        // Assert
+        assertThat(target).isNull();
+    }
+
+    private Message<jobEvent> message(jobEvent event, JobMilestoneFacts facts) {
+        return MessageBuilder.withPayload(event)
+                .setHeader("jobId", jobId)
+                .setHeader(JobMilestoneFacts.HEADER, facts)
+                .build();
+    }
+
+    private Message<jobEvent> message(jobEvent event, boolean isClientApproving) {
+        return MessageBuilder.withPayload(event)
+                .setHeader("jobId", jobId)
+                .setHeader("isClientApproving", isClientApproving)
+                .build();
+    }
+}
@@ -0,0 +1,186 @@
+package com.trustbridge.StateMachineTests;
+
+import com.trustbridge.Common.Events.DomainEventBus;
+import com.trustbridge.Common.StateMachine.StaleTransitionException;
+import com.trustbridge.Common.StateMachine.StateMachineProperties;
+import com.trustbridge.Common.StateMachine.TransitionEngineFactory;
+import com.trustbridge.Common.StateMachine.TransitionMetrics;
+import com.trustbridge.Domain.Entities.Jobs;
+import com.trustbridge.Domain.Entities.Milestones;
+import com.trustbridge.Domain.Entities.Users;
+import com.trustbridge.Domain.Enums.JobStatus.jobStatus;
+import com.trustbridge.Domain.Enums.MilestoneStatus.milestoneStatus;
+import com.trustbridge.Domain.Enums.UserRole.role;
+import com.trustbridge.Domain.Repositories.JobRepository;
+import com.trustbridge.Domain.Repositories.MilestoneRepository;
+import com.trustbridge.Domain.Repositories.UserRepository;
+import com.trustbridge.Features.Jobs.Service.MilestoneStateService;
+import com.trustbridge.Features.Jobs.StateMachine.Interceptors.MilestoneStateChangeInterceptor;
+import com.trustbridge.Features.Jobs.StateMachine.MilestoneStateMachineConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Bulk transitions through the Spring proxy against a real database, so the transaction boundary is
+ * the one production gets. Runs without the usual test transaction, every statement commits for real.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({MilestoneStateService.class, MilestoneStateMachineConfig.class, MilestoneStateChangeInterceptor.class,
+        TransitionEngineFactory.class, MilestoneBulkTransactionTest.Config.class})
+class MilestoneBulkTransactionTest {
+
+    // Runs just before each compare-and-set UPDATE, to let a "concurrent request" get in first
+    private static volatile Runnable beforePersist = () -> { };
+
+    @TestConfiguration
+    @EnableConfigurationProperties(StateMachineProperties.class)
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        TransitionMetrics transitionMetrics(MeterRegistry meterRegistry) {
+            return new TransitionMetrics(meterRegistry) {
+                @Override
+                public boolean timePersist(String machine, Enum<?> source, Enum<?> target, BooleanSupplier write) {
+                    beforePersist.run();
+                    return super.timePersist(machine, source, target, write);
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private MilestoneStateService milestoneStateService;
+
+    @Autowired
+    private MilestoneRepository milestoneRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private DomainEventBus domainEventBus;
+
+    private Jobs job;
+
+    @BeforeEach
+    void setUp() {
+        beforePersist = () -> { };
+
+        Users freelancer = userRepository.save(Users.builder()
+                .email("freelancer-" + UUID.randomUUID() + "@test.com")
+                .firstName("Alex")
+                .lastName("Smith")
+                .userRole(role.FREELANCER)
+                .build());
+        job = jobRepository.save(Jobs.builder()
+                .freelancer(freelancer)
+                .title("Logo Design")
+                .description("A new logo")
+                .totalAmount(new BigDecimal("1000.00"))
+                .currency("GBP")
+                .inviteToken("bulk-" + UUID.randomUUID())
+                .status(jobStatus.AWAITING_PAYMENT)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        milestoneRepository.deleteAll();
+        jobRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void cancelAllForJob_ShouldPublishInsideTheTransaction() {
+        // Arrange
+        Milestones first = milestone(1);
+        Milestones second = milestone(2);
+        AtomicBoolean inTransaction = new AtomicBoolean();
+        doAnswer(invocation -> {
+            inTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return null;
+        }).when(domainEventBus).publishAfterCommit(any());
+
+        // Act
+        milestoneStateService.cancelAllForJob(job.getId());
+
+        // Assert
+        assertThat(status(first)).isEqualTo(milestoneStatus.CANCELLED);
+        assertThat(status(second)).isEqualTo(milestoneStatus.CANCELLED);
+        assertThat(inTransaction).isTrue();
+    }
+
+    @Test
+    void cancelAllForJob_WhenAMilestoneMovedUnderneath_ShouldRollBackTheWholeBatch() {
+        // Arrange: another request cancels the second milestone between the load and the UPDATE
+        Milestones first = milestone(1);
+        Milestones second = milestone(2);
+        TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+        concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        beforePersist = () -> concurrent.executeWithoutResult(tx -> milestoneRepository.updateStatusesIfCurrent(
+                List.of(second.getId()), milestoneStatus.AWAITING_PAYMENT.name(), milestoneStatus.CANCELLED.name()));
+
+        // Act & Assert
+        assertThatThrownBy(() -> milestoneStateService.cancelAllForJob(job.getId()))
+                .isInstanceOf(StaleTransitionException.class);
+        assertThat(status(first)).isEqualTo(milestoneStatus.AWAITING_PAYMENT);
+        verify(domainEventBus, never()).publishAfterCommit(any());
+    }
+
+    private Milestones milestone(int sequence) {
+        return milestoneRepository.save(Milestones.builder()
+                .job(job)
+                .title("Milestone " + sequence)
+                .amount(new BigDecimal("500.00"))
+                .sequenceOrder(sequence)
+                .status(milestoneStatus.AWAITING_PAYMENT)
+                .build());
+    }
+
+    private milestoneStatus status(Milestones milestone) {
+        return milestoneRepository.findStatusById(milestone.getId()).orElseThrow();
+    }
+}
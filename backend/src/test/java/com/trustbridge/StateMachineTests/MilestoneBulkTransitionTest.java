@@ -0,0 +1,133 @@
+package com.trustbridge.StateMachineTests;
+
+import com.trustbridge.Common.Events.DomainEventBus;
+import com.trustbridge.Common.Events.TransitionEvent;
+import com.trustbridge.Common.StateMachine.StaleTransitionException;
+import com.trustbridge.Common.StateMachine.StateMachineProperties;
+import com.trustbridge.Common.StateMachine.TransitionEngineFactory;
+import com.trustbridge.Common.StateMachine.TransitionMetrics;
+import com.trustbridge.Common.StateMachine.TransitionResult;
+import com.trustbridge.Domain.Entities.Milestones;
+import com.trustbridge.Domain.Enums.MilestoneEvent.milestoneEvent;
+import com.trustbridge.Domain.Enums.MilestoneStatus.milestoneStatus;
+import com.trustbridge.Domain.Repositories.MilestoneRepository;
+import com.trustbridge.Features.Jobs.Service.MilestoneStateService;
+import com.trustbridge.Features.Jobs.StateMachine.Interceptors.MilestoneStateChangeInterceptor;
+import com.trustbridge.Features.Jobs.StateMachine.MilestoneStateMachineConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.statemachine.config.StateMachineFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MilestoneBulkTransitionTest {
+
+    private AnnotationConfigApplicationContext context;
+    private MilestoneRepository milestoneRepository;
+    private MilestoneStateService milestoneStateService;
+    private DomainEventBus domainEventBus;
+
+    private final UUID jobId = UUID.randomUUID();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(MilestoneStateMachineConfig.class);
+        StateMachineFactory<milestoneStatus, milestoneEvent> factory =
+                context.getBean("MilestoneStateMachineFactory", StateMachineFactory.class);
+
+        StateMachineProperties properties = new StateMachineProperties();
+        properties.setEngine(StateMachineProperties.Engine.COMPILED);
+
+        milestoneRepository = mock(MilestoneRepository.class);
+        when(milestoneRepository.transitionStatuses(anyCollection(), any(), any())).thenCallRealMethod();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TransitionMetrics transitionMetrics = new TransitionMetrics(meterRegistry);
+        domainEventBus = mock(DomainEventBus.class);
+
+        milestoneStateService = new MilestoneStateService(milestoneRepository, factory,
+                new MilestoneStateChangeInterceptor(),
+                new TransitionEngineFactory(properties, meterRegistry, transitionMetrics),
+                transitionMetrics, domainEventBus);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void transitionAll_ShouldWriteOneUpdatePerStatusPairAndReturnResultsInSequenceOrder() {
+        // Arrange
+        Milestones second = milestone(2, milestoneStatus.AWAITING_PAYMENT);
+        Milestones first = milestone(1, milestoneStatus.AWAITING_PAYMENT);
+        Milestones done = milestone(3, milestoneStatus.PAID_OUT);
+        when(milestoneRepository.findAllByJobId(jobId)).thenReturn(List.of(second, first, done));
+        when(milestoneRepository.updateStatusesIfCurrent(anyCollection(), eq("AWAITING_PAYMENT"), eq("CANCELLED"))).thenReturn(2);
+
+        // Act
+        List<TransitionResult<milestoneStatus>> results =
+                milestoneStateService.transitionAll(jobId, milestoneEvent.CANCEL_MILESTONE, m -> true);
+
+        // Assert
+        assertThat(results).extracting(TransitionResult::entityId)
+                .containsExactly(first.getId(), second.getId(), done.getId());
+        assertThat(results).extracting(TransitionResult::outcome).containsExactly(
+                TransitionResult.Outcome.ACCEPTED, TransitionResult.Outcome.ACCEPTED, TransitionResult.Outcome.DENIED);
+        verify(milestoneRepository, times(1))
+                .updateStatusesIfCurrent(eq(List.of(first.getId(), second.getId())), eq("AWAITING_PAYMENT"), eq("CANCELLED"));
+        verify(milestoneRepository, never()).findById(any());
+        verify(domainEventBus).publishAfterCommit(argThat(event -> event.entityId().equals(first.getId())
+                && event.from() == milestoneStatus.AWAITING_PAYMENT && event.to() == milestoneStatus.CANCELLED
+                && event.event() == milestoneEvent.CANCEL_MILESTONE && event.actor().equals(TransitionEvent.SYSTEM_ACTOR)));
+        verify(domainEventBus, never()).publishAfterCommit(argThat(event -> event.entityId().equals(done.getId())));
+    }
+
+    @Test
+    void transitionAll_ShouldEvaluateGuardsAgainstTheGivenHeaders() {
+        // Arrange
+        Milestones milestone = milestone(1, milestoneStatus.AWAITING_PAYMENT);
+        when(milestoneRepository.findAllByJobId(jobId)).thenReturn(List.of(milestone));
+
+        // Act
+        List<TransitionResult<milestoneStatus>> results = milestoneStateService.transitionAll(
+                jobId, milestoneEvent.FUNDS_DEPOSITED, m -> true, Map.of("isFunded", false));
+
+        // Assert
+        assertThat(results.getFirst().outcome()).isEqualTo(TransitionResult.Outcome.DENIED);
+        verify(milestoneRepository, never()).updateStatusesIfCurrent(anyCollection(), any(), any());
+    }
+
+    @Test
+    void transitionAll_WhenARowMovedConcurrently_ShouldThrowStaleTransition() {
+        // Arrange
+        when(milestoneRepository.findAllByJobId(jobId)).thenReturn(List.of(
+                milestone(1, milestoneStatus.LOCKED), milestone(2, milestoneStatus.LOCKED)));
+        when(milestoneRepository.updateStatusesIfCurrent(anyCollection(), any(), any())).thenReturn(1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> milestoneStateService.transitionAll(jobId, milestoneEvent.UNLOCK, m -> true))
+                .isInstanceOf(StaleTransitionException.class);
+    }
+
+    private Milestones milestone(int sequenceOrder, milestoneStatus status) {
+        Milestones milestone = Milestones.builder()
+                .title("Milestone " + sequenceOrder)
+                .sequenceOrder(sequenceOrder)
+                .status(status)
+                .build();
+        milestone.setId(UUID.randomUUID());
+        return milestone;
+    }
+}
@@ -0,0 +1,135 @@
+package com.trustbridge.StateMachineTests;
+
+import com.trustbridge.Common.StateMachine.GuardMetricsPostProcessor;
+import com.trustbridge.Common.StateMachine.InstrumentedTransitionEngine;
+import com.trustbridge.Common.StateMachine.StaleTransitionException;
+import com.trustbridge.Common.StateMachine.TransitionMetrics;
+import com.trustbridge.Common.StateMachine.TransitionResult;
+import com.trustbridge.Domain.Enums.JobEvent.jobEvent;
+import com.trustbridge.Domain.Enums.JobStatus.jobStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.statemachine.StateContext;
+import org.springframework.statemachine.StateMachine;
+import org.springframework.statemachine.guard.Guard;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class TransitionMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TransitionMetrics transitionMetrics;
+
+    private final UUID jobId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        transitionMetrics = new TransitionMetrics(meterRegistry);
+    }
+
+    @Test
+    void fire_Accepted_ShouldRecordTimerAndCounterWithSourceTargetAndOutcome() {
+        // Arrange
+        InstrumentedTransitionEngine<jobStatus, jobEvent> engine = new InstrumentedTransitionEngine<>("job",
+                (id, state, message) -> Mono.just(new TransitionResult<>(id, TransitionResult.Outcome.ACCEPTED,
+                        jobStatus.AWAITING_PAYMENT)),
+                transitionMetrics);
+
+        // Act
+        engine.fire(jobId, jobStatus.PENDING_ACCEPTANCE, message(jobEvent.ACCEPT_OFFER)).block();
+
+        // Assert
+        assertThat(meterRegistry.get("trustbridge.statemachine.transition")
+                .tags("machine", "job", "source", "PENDING_ACCEPTANCE", "target", "AWAITING_PAYMENT", "outcome", "accepted")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("trustbridge.statemachine.transitions")
+                .tags("machine", "job", "source", "PENDING_ACCEPTANCE", "target", "AWAITING_PAYMENT", "outcome", "accepted")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void fire_Denied_ShouldTagTargetNone() {
+        // Arrange
+        InstrumentedTransitionEngine<jobStatus, jobEvent> engine = new InstrumentedTransitionEngine<>("job",
+                (id, state, message) -> Mono.just(new TransitionResult<>(id, TransitionResult.Outcome.DENIED, state)),
+                transitionMetrics);
+
+        // Act
+        engine.fire(jobId, jobStatus.DRAFT, message(jobEvent.ACCEPT_OFFER)).block();
+
+        // Assert
+        assertThat(meterRegistry.get("trustbridge.statemachine.transitions")
+                .tags("source", "DRAFT", "target", "none", "outcome", "denied")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void fire_LostCompareAndSet_ShouldRecordStaleAndRethrow() {
+        // Arrange
+        InstrumentedTransitionEngine<jobStatus, jobEvent> engine = new InstrumentedTransitionEngine<>("job",
+                (id, state, message) -> Mono.error(new StaleTransitionException("job", id, state,
+                        jobStatus.AWAITING_PAYMENT)),
+                transitionMetrics);
+
+        // Act & Assert
+        assertThatThrownBy(() -> engine.fire(jobId, jobStatus.PENDING_ACCEPTANCE, message(jobEvent.ACCEPT_OFFER)).block())
+                .isInstanceOf(StaleTransitionException.class);
+        assertThat(meterRegistry.get("trustbridge.statemachine.transition")
+                .tags("machine", "job", "outcome", "stale")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void postProcessAfterInitialization_GuardBean_ShouldTimeEachEvaluationUnderItsBeanName() {
+        // Arrange
+        ObjectProvider<TransitionMetrics> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(transitionMetrics);
+        GuardMetricsPostProcessor postProcessor = new GuardMetricsPostProcessor(provider);
+
+        Guard<jobStatus, jobEvent> guard = context -> true;
+        StateMachine<jobStatus, jobEvent> stateMachine = mock(StateMachine.class);
+        when(stateMachine.getId()).thenReturn("job-" + jobId);
+        StateContext<jobStatus, jobEvent> context = mock(StateContext.class);
+        when(context.getStateMachine()).thenReturn(stateMachine);
+
+        // Act
+        Object wrapped = postProcessor.postProcessAfterInitialization(guard, "firstMilestonePaidGuard");
+        boolean passed = ((Guard<jobStatus, jobEvent>) wrapped).evaluate(context);
+
+        // Assert
+        assertThat(wrapped).isNotSameAs(guard);
+        assertThat(passed).isTrue();
+        assertThat(meterRegistry.get("trustbridge.statemachine.guard")
+                .tags("machine", "job", "guard", "firstMilestonePaidGuard", "result", "pass")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void postProcessAfterInitialization_OtherBean_ShouldReturnItUnwrapped() {
+        // Arrange
+        GuardMetricsPostProcessor postProcessor = new GuardMetricsPostProcessor(mock(ObjectProvider.class));
+        Object bean = new Object();
+
+        // Act
+        Object result = postProcessor.postProcessAfterInitialization(bean, "someBean");
+
+        // Assert
+        assertThat(result).isSameAs(bean);
+    }
+
+    private static Message<jobEvent> message(jobEvent event) {
+        return MessageBuilder.withPayload(event).build();
+    }
+}
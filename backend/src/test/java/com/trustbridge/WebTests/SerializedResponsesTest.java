@@ -0,0 +1,77 @@
+package com.trustbridge.WebTests;
+
+import com.trustbridge.Common.Web.SerializedResponseProperties;
+import com.trustbridge.Common.Web.SerializedResponses;
+import com.trustbridge.Features.Jobs.Dto.InviteResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedResponsesTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final InviteResponseDto invite = new InviteResponseDto("Logo Design", "A new logo", "Alex Smith",
+            "freelancer@test.com", new BigDecimal("250.00"), "GBP", null, "NEW");
+
+    @Test
+    void write_ShouldMatchWhatTheMapperWrites() {
+        // Arrange
+        SerializedResponses responses = responses(true);
+
+        // Act
+        byte[] body = responses.write(InviteResponseDto.class, invite);
+
+        // Assert
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo(jsonMapper.writeValueAsString(invite));
+    }
+
+    @Test
+    void write_WithTheSameVersion_ShouldOnlyBuildTheBodyOnce() {
+        // Arrange
+        SerializedResponses responses = responses(true);
+        AtomicInteger built = new AtomicInteger();
+        UUID version = UUID.randomUUID();
+
+        // Act
+        byte[] first = responses.write(InviteResponseDto.class, version, () -> build(built));
+        byte[] second = responses.write(InviteResponseDto.class, version, () -> build(built));
+        responses.write(InviteResponseDto.class, UUID.randomUUID(), () -> build(built));
+
+        // Assert
+        assertThat(built).hasValue(2);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void write_WithTheCacheDisabled_ShouldBuildTheBodyEveryTime() {
+        // Arrange
+        SerializedResponses responses = responses(false);
+        AtomicInteger built = new AtomicInteger();
+        UUID version = UUID.randomUUID();
+
+        // Act
+        responses.write(InviteResponseDto.class, version, () -> build(built));
+        responses.write(InviteResponseDto.class, version, () -> build(built));
+
+        // Assert
+        assertThat(built).hasValue(2);
+    }
+
+    private InviteResponseDto build(AtomicInteger built) {
+        built.incrementAndGet();
+        return invite;
+    }
+
+    private SerializedResponses responses(boolean enabled) {
+        SerializedResponseProperties properties = new SerializedResponseProperties();
+        properties.setEnabled(enabled);
+        return new SerializedResponses(jsonMapper, properties, new SimpleMeterRegistry());
+    }
+}
@@ -1,13 +1,25 @@
 package com.trustbridge.architectureTest;
 
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaModifier;
 import com.tngtech.archunit.core.importer.ImportOption;
 import com.tngtech.archunit.junit.AnalyzeClasses;
 import com.tngtech.archunit.junit.ArchTest;
 import com.tngtech.archunit.lang.ArchRule;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noMethods;
 import static com.tngtech.archunit.library.Architectures.layeredArchitecture;
 import static com.tngtech.archunit.library.GeneralCodingRules.NO_CLASSES_SHOULD_THROW_GENERIC_EXCEPTIONS;
 import static com.tngtech.archunit.library.GeneralCodingRules.NO_CLASSES_SHOULD_USE_JAVA_UTIL_LOGGING;
+import static org.assertj.core.api.Assertions.assertThat;
 
 // 1. Tell ArchUnit where to look (your package)
 @AnalyzeClasses(packages = "com.trustbridge", importOptions = ImportOption.DoNotIncludeTests.class)
@@ -67,4 +79,34 @@ public class ArchitectureTest {
     @ArchTest
     static final ArchRule use_correct_logger = NO_CLASSES_SHOULD_USE_JAVA_UTIL_LOGGING;
 
+    // A virtual thread that blocks inside a synchronized method pins its carrier thread (Java 21).
+    // Guard shared state with java.util.concurrent locks instead.
+    @ArchTest
+    static final ArchRule no_synchronized_methods = noMethods()
+            .that().areDeclaredInClassesThat().resideInAPackage("com.trustbridge..")
+            .should().haveModifier(JavaModifier.SYNCHRONIZED);
+
+    // Same for synchronized (lock) { } blocks. ArchUnit doesn't see monitor instructions in the bytecode,
+    // so this one reads the sources (the test task runs from the backend folder)
+    @ArchTest
+    static void no_synchronized_blocks(JavaClasses classes) throws IOException {
+        Pattern block = Pattern.compile("\\bsynchronized\\s*\\(");
+        try (Stream<Path> sources = Files.walk(Path.of("src/main/java"))) {
+            List<String> offenders = sources
+                    .filter(path -> path.toString().endsWith(".java"))
+                    .filter(path -> block.matcher(read(path)).find())
+                    .map(Path::toString)
+                    .toList();
+            assertThat(offenders).as("classes with synchronized blocks").isEmpty();
+        }
+    }
+
+    private static String read(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
 }
@@ -0,0 +1,72 @@
+// Platform vs virtual thread load test, run with k6 (https://k6.io) against a running backend.
+// See README.md in this folder for the full procedure.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e EMAIL=<email> -e PASSWORD=<password> \
+//          -e FREELANCER_ID=<uuid> -e INVITE_TOKEN=<token> \
+//          -e MODE=virtual scripts/loadtest/threads.js
+//
+// Every virtual user loops without think time, so VUS is the number of concurrent clients.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '1000', 10);
+const DURATION = __ENV.DURATION || '2m';
+const MODE = __ENV.MODE || 'unknown';
+
+export const options = {
+    scenarios: {
+        listing: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+            gracefulStop: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(90)', 'p(95)', 'p(99)', 'max'],
+    tags: { mode: MODE },
+};
+
+// Log in as the freelancer: the listing is only served to its own party
+export function setup() {
+    if (!__ENV.EMAIL || !__ENV.PASSWORD) {
+        return { headers: {} };
+    }
+
+    const res = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'logged in': (r) => r.status === 200 });
+
+    return { headers: { Authorization: `Bearer ${res.json('accessToken')}` } };
+}
+
+// Mix of a DB-bound listing query and the cached invite page
+export default function (data) {
+    const params = { headers: data.headers };
+
+    const jobs = http.get(`${BASE_URL}/api/job/freelancer/${__ENV.FREELANCER_ID}?size=20`,
+        Object.assign({ tags: { name: 'freelancer-jobs' } }, params));
+    check(jobs, { 'jobs 200': (r) => r.status === 200 });
+
+    if (__ENV.INVITE_TOKEN) {
+        const invite = http.get(`${BASE_URL}/api/invite/${__ENV.INVITE_TOKEN}`,
+            Object.assign({ tags: { name: 'invite' } }, params));
+        check(invite, { 'invite 200': (r) => r.status === 200 });
+    }
+}
+
+export function handleSummary(data) {
+    const reqs = data.metrics.http_reqs.values;
+    const duration = data.metrics.http_req_duration.values;
+    const failed = data.metrics.http_req_failed.values;
+
+    const line = `${MODE}: ${reqs.rate.toFixed(1)} req/s, p99 ${duration['p(99)'].toFixed(1)} ms, `
+        + `median ${duration.med.toFixed(1)} ms, errors ${(failed.rate * 100).toFixed(2)}%\n`;
+
+    return {
+        stdout: line,
+        [`loadtest-${MODE}.json`]: JSON.stringify(data, null, 2),
+    };
+}